@@ -0,0 +1,177 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.MembershipServiceApplication;
+import com.firstclub.membership.entity.*;
+import com.firstclub.membership.enums.BenefitType;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.enums.SubscriptionStatus;
+import com.firstclub.membership.service.TierCatalog;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detached entity graphs mirroring the demo data, for benchmarks that run without a database
+ */
+final class BenchmarkFixtures {
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Silver (no criteria), Gold (lifetime minimums) and Platinum (30-day minimums)
+     */
+    static List<MembershipTier> tiers() {
+        MembershipTier silver = tier(MembershipTierType.SILVER, 1);
+        benefit(silver, BenefitType.FREE_DELIVERY, "Free Delivery", "true", 1);
+        benefit(silver, BenefitType.PERCENTAGE_DISCOUNT, "5% Discount", "5", 2);
+
+        MembershipTier gold = tier(MembershipTierType.GOLD, 2);
+        benefit(gold, BenefitType.FREE_DELIVERY, "Free Delivery", "true", 1);
+        benefit(gold, BenefitType.PERCENTAGE_DISCOUNT, "10% Discount", "10", 2);
+        benefit(gold, BenefitType.EARLY_ACCESS, "Early Access", "true", 3);
+        criteria(gold, "ORDER_COUNT", "5", null);
+        criteria(gold, "ORDER_VALUE", "500", null);
+
+        MembershipTier platinum = tier(MembershipTierType.PLATINUM, 3);
+        benefit(platinum, BenefitType.FREE_DELIVERY, "Priority Free Delivery", "true", 1);
+        benefit(platinum, BenefitType.PERCENTAGE_DISCOUNT, "15% Discount", "15", 2);
+        benefit(platinum, BenefitType.EARLY_ACCESS, "Early Access", "true", 3);
+        benefit(platinum, BenefitType.EXCLUSIVE_DEALS, "Exclusive Deals", "true", 4);
+        benefit(platinum, BenefitType.PRIORITY_SUPPORT, "Priority Support", "true", 5);
+        criteria(platinum, "ORDER_COUNT", "10", 30);
+        criteria(platinum, "ORDER_VALUE", "1000", 30);
+
+        return List.of(silver, gold, platinum);
+    }
+
+    /**
+     * Boot the full application on embedded H2 without a web server and with SQL and request
+     * logging turned down; {@code overrides} are extra {@code --property=value} arguments
+     */
+    static ConfigurableApplicationContext startApplication(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.firstclub.membership=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(MembershipServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    static TierCatalog catalog(List<MembershipTier> tiers) {
+        return new TierCatalog(1, Instant.now(), tiers);
+    }
+
+    /**
+     * A member with {@code orders} orders of {@code orderValue} placed today
+     */
+    static Member member(String userId, int orders, BigDecimal orderValue) {
+        Member member = Member.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build();
+        member.setId(IDS.incrementAndGet());
+
+        OrderStatistics stats = OrderStatistics.builder()
+                .member(member)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+        for (int i = 0; i < orders; i++) {
+            stats.recordOrder(orderValue);
+        }
+        if (orders > 0) {
+            long cents = orderValue.movePointRight(2).longValueExact() * orders;
+            member.getRecentOrderBuckets().add(new OrderDailyBucket(member.getId(), LocalDate.now().toEpochDay(), orders, cents));
+        }
+        member.setOrderStatistics(stats);
+        member.setTotalLifetimeValue(stats.getTotalOrderValue());
+        return member;
+    }
+
+    /**
+     * Give a member an active monthly subscription to {@code tier}
+     */
+    static Subscription subscribe(Member member, MembershipTier tier) {
+        MembershipPlan plan = MembershipPlan.builder()
+                .planType(MembershipPlanType.MONTHLY)
+                .name("Monthly Plan")
+                .description("Pay month-by-month with flexibility")
+                .basePrice(new BigDecimal("9.99"))
+                .durationInMonths(1)
+                .build();
+        plan.setId(IDS.incrementAndGet());
+
+        LocalDateTime start = LocalDateTime.now();
+        Subscription subscription = Subscription.builder()
+                .member(member)
+                .plan(plan)
+                .tier(tier)
+                .startDate(start)
+                .endDate(start.plusMonths(1))
+                .status(SubscriptionStatus.ACTIVE)
+                .price(plan.getBasePrice())
+                .nextBillingDate(start.plusMonths(1))
+                .build();
+        subscription.setId(IDS.incrementAndGet());
+        member.getSubscriptions().add(subscription);
+        return subscription;
+    }
+
+    private static MembershipTier tier(MembershipTierType type, int level) {
+        MembershipTier tier = MembershipTier.builder()
+                .tierType(type)
+                .name(type.name() + " Tier")
+                .description(type.name() + " membership")
+                .level(level)
+                .isAvailable(true)
+                .build();
+        tier.setId(IDS.incrementAndGet());
+        tier.setVersion(0L);
+        return tier;
+    }
+
+    private static void benefit(MembershipTier tier, BenefitType type, String name, String value, int displayOrder) {
+        Benefit benefit = Benefit.builder()
+                .benefitType(type)
+                .name(name)
+                .description(name)
+                .value(value)
+                .displayOrder(displayOrder)
+                .isActive(true)
+                .build();
+        benefit.setId(IDS.incrementAndGet());
+        tier.addBenefit(benefit);
+    }
+
+    private static void criteria(MembershipTier tier, String type, String value, Integer evaluationPeriodDays) {
+        TierEligibilityCriteria criteria = TierEligibilityCriteria.builder()
+                .criteriaType(type)
+                .criteriaValue(value)
+                .comparisonOperator("GTE")
+                .evaluationPeriodDays(evaluationPeriodDays)
+                .isActive(true)
+                .build();
+        criteria.setId(IDS.incrementAndGet());
+        tier.addEligibilityCriteria(criteria);
+    }
+}
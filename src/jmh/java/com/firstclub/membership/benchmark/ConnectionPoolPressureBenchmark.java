@@ -0,0 +1,152 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.dto.request.TierChangeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.exception.MembershipException;
+import com.firstclub.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Subscription writes with more concurrent callers than pooled connections.
+ * Every write path should need exactly one connection; a path that borrows a second one while
+ * holding the first starves the pool and shows up as {@code poolFailures} (Hikari timeouts).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(16)
+public class ConnectionPoolPressureBenchmark {
+
+    private static final BigDecimal ORDER_VALUE = new BigDecimal("120.00");
+
+    @Param({"4"})
+    public int poolSize;
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication(
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                "--spring.datasource.hikari.connection-timeout=2000");
+        membershipService = context.getBean(MembershipService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * Failed calls per second, split by cause
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long poolFailures;
+        public long rejections;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            poolFailures = 0;
+            rejections = 0;
+        }
+    }
+
+    /**
+     * A Gold-eligible member per thread, toggled between Silver and Gold
+     */
+    @State(Scope.Thread)
+    public static class TierMember {
+        String userId;
+        boolean gold;
+
+        @Setup(Level.Trial)
+        public void create(ConnectionPoolPressureBenchmark benchmark) {
+            userId = benchmark.createMember();
+            for (int i = 0; i < 6; i++) {
+                benchmark.membershipService.recordOrder(userId, ORDER_VALUE);
+            }
+            benchmark.membershipService.subscribe(subscribeRequest(userId));
+        }
+    }
+
+    /**
+     * A member created before each invocation, so subscribe always takes the success path
+     */
+    @State(Scope.Thread)
+    public static class NewMember {
+        String userId;
+
+        @Setup(Level.Invocation)
+        public void create(ConnectionPoolPressureBenchmark benchmark) {
+            userId = benchmark.createMember();
+        }
+    }
+
+    @Benchmark
+    public Object subscribe(NewMember member, Outcomes outcomes) {
+        return call(() -> membershipService.subscribe(subscribeRequest(member.userId)), outcomes);
+    }
+
+    @Benchmark
+    public Object changeTier(TierMember member, Outcomes outcomes) {
+        TierChangeRequest request = TierChangeRequest.builder()
+                .userId(member.userId)
+                .targetTierType(member.gold ? MembershipTierType.SILVER : MembershipTierType.GOLD)
+                .build();
+        Object result = call(() -> member.gold
+                ? membershipService.downgradeTier(request)
+                : membershipService.upgradeTier(request), outcomes);
+        if (result != null) {
+            member.gold = !member.gold;
+        }
+        return result;
+    }
+
+    private static Object call(Supplier<Object> action, Outcomes outcomes) {
+        try {
+            return action.get();
+        } catch (MembershipException e) {
+            outcomes.rejections++;
+        } catch (RuntimeException e) {
+            outcomes.poolFailures++;
+        }
+        return null;
+    }
+
+    private String createMember() {
+        String userId = "pool-" + sequence.incrementAndGet();
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+        return userId;
+    }
+
+    private static SubscribeRequest subscribeRequest(String userId) {
+        return SubscribeRequest.builder()
+                .userId(userId)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.SILVER)
+                .autoRenew(false)
+                .build();
+    }
+}
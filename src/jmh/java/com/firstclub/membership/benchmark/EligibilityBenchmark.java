@@ -0,0 +1,111 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.entity.TierEligibilityCriteria;
+import com.firstclub.membership.service.EligibilityPredicate;
+import com.firstclub.membership.service.TierCatalog;
+import com.firstclub.membership.service.TierCatalogService;
+import com.firstclub.membership.service.impl.TierEligibilityEngineImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tier eligibility evaluation: raw criteria checks, compiled predicates and the engine entry points
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EligibilityBenchmark {
+
+    /**
+     * Order history of the evaluated member: none, enough for Gold, or enough for Platinum
+     */
+    @Param({"NONE", "GOLD", "PLATINUM"})
+    public String profile;
+
+    private Member member;
+    private MembershipTier platinum;
+    private EligibilityPredicate platinumPredicate;
+    private TierEligibilityEngineImpl engine;
+
+    @Setup
+    public void setUp() {
+        List<MembershipTier> tiers = BenchmarkFixtures.tiers();
+        TierCatalog catalog = BenchmarkFixtures.catalog(tiers);
+        platinum = tiers.get(2);
+        platinumPredicate = catalog.predicateFor(platinum);
+
+        switch (profile) {
+            case "GOLD":
+                member = BenchmarkFixtures.member("bench-gold", 6, new BigDecimal("100.00"));
+                break;
+            case "PLATINUM":
+                member = BenchmarkFixtures.member("bench-platinum", 12, new BigDecimal("100.00"));
+                break;
+            default:
+                member = BenchmarkFixtures.member("bench-none", 0, BigDecimal.ZERO);
+        }
+
+        engine = new TierEligibilityEngineImpl(new TierCatalogService() {
+            @Override
+            public TierCatalog getCatalog() {
+                return catalog;
+            }
+
+            @Override
+            public TierCatalog refresh() {
+                return catalog;
+            }
+
+            @Override
+            public void invalidate() {
+            }
+        }, null, null);
+    }
+
+    /**
+     * Interpreted criteria: string switches, number parsing and boxing on every call
+     */
+    @Benchmark
+    public boolean criteriaIsMet() {
+        for (TierEligibilityCriteria criteria : platinum.getEligibilityCriteria()) {
+            Object value;
+            switch (criteria.getCriteriaType()) {
+                case "ORDER_COUNT":
+                    value = member.getOrderStatistics().getTotalOrderCount();
+                    break;
+                case "ORDER_VALUE":
+                    value = member.getOrderStatistics().getTotalOrderValue();
+                    break;
+                default:
+                    value = member.getCohort();
+            }
+            if (!criteria.isMet(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean compiledPredicate() {
+        return platinumPredicate.test(member);
+    }
+
+    @Benchmark
+    public boolean isEligibleForTier() {
+        return engine.isEligibleForTier(member, platinum);
+    }
+
+    @Benchmark
+    public List<MembershipTier> findEligibleTiers() {
+        return engine.findEligibleTiers(member);
+    }
+}
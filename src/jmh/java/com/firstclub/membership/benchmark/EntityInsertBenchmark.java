@@ -0,0 +1,143 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.OrderRecordRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.service.MembershipService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Insert throughput of the write paths that create rows: createMember (member and order
+ * statistics), subscribe (subscription) for new members, and a batch of {@code ORDER_BATCH}
+ * orders spread over {@code ORDER_MEMBERS} members (one processed-order row each, flushed together).
+ * Hibernate statistics report the JDBC statements each call prepares, which shows whether
+ * inserts still need a statement and key round trip of their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(1)
+public class EntityInsertBenchmark {
+
+    private static final int ORDER_BATCH = 100;
+    private static final int ORDER_MEMBERS = 10;
+    private static final BigDecimal ORDER_VALUE = new BigDecimal("25.00");
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private Statistics statistics;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<String> orderMembers = new ArrayList<>(ORDER_MEMBERS);
+    private long calls;
+    private long statements;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication(
+                "--membership.lifecycle.enabled=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN");
+        membershipService = context.getBean(MembershipService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        for (int i = 0; i < ORDER_MEMBERS; i++) {
+            String userId = newUserId();
+            membershipService.createMember(createRequest(userId));
+            orderMembers.add(userId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportStatements() {
+        System.out.printf("%n%.2f statements per call over %d calls%n", calls == 0 ? 0 : (double) statements / calls, calls);
+        calls = 0;
+        statements = 0;
+    }
+
+    /**
+     * A member created before each invocation, so subscribe always inserts
+     */
+    @State(Scope.Thread)
+    public static class NewMember {
+        String userId;
+
+        @Setup(Level.Invocation)
+        public void create(EntityInsertBenchmark benchmark) {
+            userId = benchmark.newUserId();
+            benchmark.membershipService.createMember(createRequest(userId));
+        }
+    }
+
+    @Benchmark
+    public Object createMember() {
+        long before = statistics.getPrepareStatementCount();
+        Object result = membershipService.createMember(createRequest(newUserId()));
+        statements += statistics.getPrepareStatementCount() - before;
+        calls++;
+        return result;
+    }
+
+    @Benchmark
+    public Object subscribe(NewMember member) {
+        long before = statistics.getPrepareStatementCount();
+        Object result = membershipService.subscribe(SubscribeRequest.builder()
+                .userId(member.userId)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.SILVER)
+                .autoRenew(false)
+                .build());
+        statements += statistics.getPrepareStatementCount() - before;
+        calls++;
+        return result;
+    }
+
+    @Benchmark
+    public Object recordOrderBatch() {
+        List<OrderRecordRequest> orders = new ArrayList<>(ORDER_BATCH);
+        for (int i = 0; i < ORDER_BATCH; i++) {
+            orders.add(OrderRecordRequest.builder()
+                    .userId(orderMembers.get(i % ORDER_MEMBERS))
+                    .orderValue(ORDER_VALUE)
+                    .orderId("order-" + sequence.incrementAndGet())
+                    .build());
+        }
+        long before = statistics.getPrepareStatementCount();
+        Object result = membershipService.recordOrders(orders.iterator());
+        statements += statistics.getPrepareStatementCount() - before;
+        calls++;
+        return result;
+    }
+
+    private String newUserId() {
+        return "insert-" + sequence.incrementAndGet();
+    }
+
+    private static CreateMemberRequest createRequest(String userId) {
+        return CreateMemberRequest.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build();
+    }
+}
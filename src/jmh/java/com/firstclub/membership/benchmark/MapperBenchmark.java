@@ -0,0 +1,75 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.response.MembershipStatusDto;
+import com.firstclub.membership.dto.response.MembershipTierDto;
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.service.TierCatalog;
+import com.firstclub.membership.service.TierCatalogService;
+import com.firstclub.membership.util.MembershipMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for the member status response.
+ * With {@code precomputed=false} the catalog is empty, so tier and benefit DTOs are built per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"true", "false"})
+    public boolean precomputed;
+
+    private MembershipMapper mapper;
+    private MembershipTier platinum;
+    private Member subscribedMember;
+    private Member newMember;
+
+    @Setup
+    public void setUp() {
+        List<MembershipTier> tiers = BenchmarkFixtures.tiers();
+        platinum = tiers.get(2);
+        TierCatalog catalog = precomputed ? BenchmarkFixtures.catalog(tiers) : TierCatalog.empty();
+        mapper = new MembershipMapper(new TierCatalogService() {
+            @Override
+            public TierCatalog getCatalog() {
+                return catalog;
+            }
+
+            @Override
+            public TierCatalog refresh() {
+                return catalog;
+            }
+
+            @Override
+            public void invalidate() {
+            }
+        });
+        subscribedMember = BenchmarkFixtures.member("bench-subscribed", 12, new BigDecimal("100.00"));
+        BenchmarkFixtures.subscribe(subscribedMember, platinum);
+        newMember = BenchmarkFixtures.member("bench-new", 0, BigDecimal.ZERO);
+    }
+
+    @Benchmark
+    public MembershipStatusDto toMembershipStatusDtoSubscribed() {
+        return mapper.toMembershipStatusDto(subscribedMember);
+    }
+
+    @Benchmark
+    public MembershipStatusDto toMembershipStatusDtoWithoutSubscription() {
+        return mapper.toMembershipStatusDto(newMember);
+    }
+
+    @Benchmark
+    public MembershipTierDto toTierDto() {
+        return mapper.toTierDto(platinum);
+    }
+}
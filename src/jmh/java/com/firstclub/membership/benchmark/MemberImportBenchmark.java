@@ -0,0 +1,75 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.response.MemberImportResultDto;
+import com.firstclub.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Onboarding {@code members} new members: the JDBC-batched bulk import against one
+ * {@code createMember} call (and transaction) per member. Every member must be imported.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class MemberImportBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private List<CreateMemberRequest> requests;
+    private int batch;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication("--membership.lifecycle.enabled=false");
+        membershipService = context.getBean(MembershipService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareRequests() {
+        String prefix = "import-" + (++batch) + "-";
+        requests = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            requests.add(CreateMemberRequest.builder()
+                    .userId(prefix + i)
+                    .email(prefix + i + "@example.com")
+                    .firstName("Bench")
+                    .lastName("Member")
+                    .cohort("partner")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public MemberImportResultDto bulkImport() {
+        MemberImportResultDto result = membershipService.importMembers(requests.iterator());
+        if (result.getImported() != members) {
+            throw new IllegalStateException("Imported " + result.getImported() + " of " + members + " members");
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int createMemberPerRequest() {
+        for (CreateMemberRequest request : requests) {
+            membershipService.createMember(request);
+        }
+        return members;
+    }
+}
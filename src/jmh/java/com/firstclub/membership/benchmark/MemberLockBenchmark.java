@@ -0,0 +1,64 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.util.MemberLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Member lock overhead and contention: every thread on one member versus threads spread across members
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MemberLockBenchmark {
+
+    private static final int MEMBERS = 10_000;
+
+    @Param({"1024"})
+    public int stripes;
+
+    private MemberLockManager locks;
+    private String[] userIds;
+
+    @Setup
+    public void setUp() {
+        locks = new MemberLockManager(stripes, new SimpleMeterRegistry());
+        userIds = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            userIds[i] = "bench-user-" + i;
+        }
+    }
+
+    @Benchmark
+    public Integer writeLockSameMember() {
+        return locks.withWriteLock(userIds[0], () -> {
+            Blackhole.consumeCPU(100);
+            return 0;
+        });
+    }
+
+    @Benchmark
+    public Integer writeLockDistinctMembers() {
+        String userId = userIds[ThreadLocalRandom.current().nextInt(MEMBERS)];
+        return locks.withWriteLock(userId, () -> {
+            Blackhole.consumeCPU(100);
+            return 0;
+        });
+    }
+
+    @Benchmark
+    public Integer readLockSameMember() {
+        return locks.withReadLock(userIds[0], () -> {
+            Blackhole.consumeCPU(100);
+            return 0;
+        });
+    }
+}
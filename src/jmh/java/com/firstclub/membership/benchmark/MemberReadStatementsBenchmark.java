@@ -0,0 +1,108 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.service.MembershipService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status and benefit reads for a member with a long subscription history, with the status
+ * cache disabled so every call reaches the database. Hibernate statistics count the JDBC
+ * statements each call prepares; a call that needs more than {@code maxStatements} fails
+ * the run, so an N+1 regression cannot pass unnoticed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(1)
+public class MemberReadStatementsBenchmark {
+
+    private static final String USER_ID = "history-member";
+
+    @Param({"status", "benefits"})
+    public String endpoint;
+
+    @Param({"12"})
+    public int pastSubscriptions;
+
+    @Param({"1"})
+    public long maxStatements;
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private Statistics statistics;
+    private long calls;
+    private long statements;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication(
+                "--membership.status-cache.maximum-size=0",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN");
+        membershipService = context.getBean(MembershipService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(USER_ID)
+                .email(USER_ID + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+        for (int i = 0; i < 6; i++) {
+            membershipService.recordOrder(USER_ID, new BigDecimal("120.00"));
+        }
+        SubscribeRequest request = SubscribeRequest.builder()
+                .userId(USER_ID)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.GOLD)
+                .autoRenew(false)
+                .build();
+        for (int i = 0; i < pastSubscriptions; i++) {
+            membershipService.subscribe(request);
+            membershipService.cancelSubscription(USER_ID, "renewal history");
+        }
+        membershipService.subscribe(request);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkStatements() {
+        double perCall = calls == 0 ? 0 : (double) statements / calls;
+        System.out.printf("%n%s: %.2f statements per call over %d calls%n", endpoint, perCall, calls);
+        if (perCall > maxStatements) {
+            throw new IllegalStateException(endpoint + " prepared " + perCall
+                    + " statements per call, expected at most " + maxStatements);
+        }
+        calls = 0;
+        statements = 0;
+    }
+
+    @Benchmark
+    public Object read() {
+        long before = statistics.getPrepareStatementCount();
+        Object result = "status".equals(endpoint)
+                ? membershipService.getMemberStatus(USER_ID)
+                : membershipService.getMemberBenefits(USER_ID);
+        statements += statistics.getPrepareStatementCount() - before;
+        calls++;
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.dto.response.MembershipStatusDto;
+import com.firstclub.membership.dto.response.SubscriptionDto;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.service.MembershipService;
+import com.firstclub.membership.service.impl.MemberStatusCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end service calls against the full application context on embedded H2.
+ * Run with {@code -prof gc} to see allocation per call alongside latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class MembershipServiceBenchmark {
+
+    private static final int MEMBERS = 1_000;
+    private static final BigDecimal ORDER_VALUE = new BigDecimal("25.00");
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private MemberStatusCache memberStatusCache;
+    private final AtomicLong sequence = new AtomicLong();
+    private String[] userIds;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication();
+        membershipService = context.getBean(MembershipService.class);
+        memberStatusCache = context.getBean(MemberStatusCache.class);
+
+        userIds = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            userIds[i] = createMember();
+            membershipService.subscribe(subscribeRequest(userIds[i]));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    /**
+     * A member created before each invocation, so subscribe always takes the success path
+     */
+    @State(Scope.Thread)
+    public static class NewMember {
+        String userId;
+
+        @Setup(Level.Invocation)
+        public void create(MembershipServiceBenchmark benchmark) {
+            userId = benchmark.createMember();
+        }
+    }
+
+    @Benchmark
+    public SubscriptionDto subscribe(NewMember member) {
+        return membershipService.subscribe(subscribeRequest(member.userId));
+    }
+
+    @Benchmark
+    public void recordOrder() {
+        membershipService.recordOrder(randomMember(), ORDER_VALUE);
+    }
+
+    /**
+     * Every thread records orders for the same member, exposing row and lock contention
+     */
+    @Benchmark
+    @Threads(4)
+    public void recordOrderHotMember() {
+        membershipService.recordOrder(userIds[0], ORDER_VALUE);
+    }
+
+    @Benchmark
+    public MembershipStatusDto getMemberStatusCached() {
+        return membershipService.getMemberStatus(randomMember());
+    }
+
+    @Benchmark
+    public MembershipStatusDto getMemberStatusUncached() {
+        String userId = randomMember();
+        memberStatusCache.invalidate(userId);
+        return membershipService.getMemberStatus(userId);
+    }
+
+    private String randomMember() {
+        return userIds[ThreadLocalRandom.current().nextInt(MEMBERS)];
+    }
+
+    private String createMember() {
+        String userId = "bench-" + sequence.incrementAndGet();
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+        return userId;
+    }
+
+    private static SubscribeRequest subscribeRequest(String userId) {
+        return SubscribeRequest.builder()
+                .userId(userId)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.SILVER)
+                .autoRenew(false)
+                .build();
+    }
+}
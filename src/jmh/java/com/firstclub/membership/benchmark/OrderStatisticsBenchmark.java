@@ -0,0 +1,79 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.entity.DailyOrderBuckets;
+import com.firstclub.membership.entity.OrderDailyBucket;
+import com.firstclub.membership.entity.OrderStatistics;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory order statistics updates and sliding-window queries.
+ * With {@code -prof gc}, gc.alloc.rate.norm of {@link #newMemberWindow} is the heap cost of
+ * one member's bucket ring, and {@link #windowFromRows} is the cost of building it from the
+ * member's stored daily bucket rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderStatisticsBenchmark {
+
+    private static final BigDecimal ORDER_VALUE = new BigDecimal("120.00");
+
+    /**
+     * Number of distinct days with orders in the member's window
+     */
+    @Param({"1", "30", "90"})
+    public int activeDays;
+
+    private OrderStatistics stats;
+    private DailyOrderBuckets window;
+    private List<OrderDailyBucket> rows;
+    private LocalDate today;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        today = LocalDate.now();
+        stats = OrderStatistics.builder().lastUpdated(LocalDateTime.now()).build();
+        window = DailyOrderBuckets.EMPTY;
+        rows = new ArrayList<>(activeDays);
+        for (int day = 0; day < activeDays; day++) {
+            window = window.plus(today.minusDays(day), 3, ORDER_VALUE);
+            rows.add(new OrderDailyBucket(1L, today.minusDays(day).toEpochDay(), 3, 36000L));
+        }
+    }
+
+    @Benchmark
+    public OrderStatistics recordOrder() {
+        stats.recordOrder(ORDER_VALUE);
+        return stats;
+    }
+
+    @Benchmark
+    public int orderCountLast30Days() {
+        return window.orderCount(30, today.toEpochDay());
+    }
+
+    @Benchmark
+    public BigDecimal orderValueLast30Days() {
+        return window.orderValue(30, today.toEpochDay());
+    }
+
+    @Benchmark
+    public DailyOrderBuckets newMemberWindow() {
+        return DailyOrderBuckets.EMPTY.plus(today, 1, ORDER_VALUE);
+    }
+
+    @Benchmark
+    public DailyOrderBuckets windowFromRows() {
+        return DailyOrderBuckets.of(rows);
+    }
+}
@@ -0,0 +1,135 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.dto.request.TierChangeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.MembershipException;
+import com.firstclub.membership.exception.RejectedException;
+import com.firstclub.membership.service.MembershipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a business rejection. {@code throwAndCatch} compares a {@link MembershipException},
+ * which fills in its stack trace, with a stackless {@link RejectedException} thrown from
+ * {@code depth} frames down; request threads sit roughly 100 frames deep in Tomcat, Spring MVC,
+ * the AOP proxies and the transaction template. The service benchmarks run real rejections
+ * end to end against embedded H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class RejectionBenchmark {
+
+    private static final int MEMBERS = 100;
+
+    /**
+     * Thrown exception type in isolation, without the application
+     */
+    @State(Scope.Benchmark)
+    public static class Thrown {
+        @Param({"stackTrace", "stackless"})
+        String kind;
+
+        @Param({"16", "128"})
+        int depth;
+    }
+
+    @Benchmark
+    public ErrorCode throwAndCatch(Thrown thrown) {
+        try {
+            return descend(thrown, thrown.depth);
+        } catch (MembershipException e) {
+            return e.getCode();
+        }
+    }
+
+    private static ErrorCode descend(Thrown thrown, int remaining) {
+        if (remaining > 0) {
+            return descend(thrown, remaining - 1);
+        }
+        if ("stackless".equals(thrown.kind)) {
+            throw new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found");
+        }
+        throw new MembershipException(ErrorCode.MEMBER_NOT_FOUND, "Member not found");
+    }
+
+    /**
+     * Subscribed Silver members and unknown user ids in a running application
+     */
+    @State(Scope.Benchmark)
+    public static class Application {
+        ConfigurableApplicationContext context;
+        MembershipService membershipService;
+        String[] userIds;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = BenchmarkFixtures.startApplication();
+            membershipService = context.getBean(MembershipService.class);
+            userIds = new String[MEMBERS];
+            for (int i = 0; i < MEMBERS; i++) {
+                userIds[i] = "reject-" + i;
+                membershipService.createMember(CreateMemberRequest.builder()
+                        .userId(userIds[i])
+                        .email(userIds[i] + "@example.com")
+                        .firstName("Bench")
+                        .lastName("Member")
+                        .build());
+                membershipService.subscribe(SubscribeRequest.builder()
+                        .userId(userIds[i])
+                        .planType(MembershipPlanType.MONTHLY)
+                        .tierType(MembershipTierType.SILVER)
+                        .autoRenew(false)
+                        .build());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            context.close();
+        }
+
+        String randomMember() {
+            return userIds[ThreadLocalRandom.current().nextInt(MEMBERS)];
+        }
+    }
+
+    /**
+     * 404: unknown user id, one indexed lookup
+     */
+    @Benchmark
+    public ErrorCode memberNotFound(Application app) {
+        try {
+            app.membershipService.checkTierEligibility("unknown-" + ThreadLocalRandom.current().nextInt(MEMBERS));
+            throw new IllegalStateException("Unknown member was not rejected");
+        } catch (RejectedException e) {
+            return e.getCode();
+        }
+    }
+
+    /**
+     * 422: upgrade without any orders, rejected under the member lock inside a write transaction
+     */
+    @Benchmark
+    public ErrorCode upgradeNotEligible(Application app) {
+        try {
+            app.membershipService.upgradeTier(TierChangeRequest.builder()
+                    .userId(app.randomMember())
+                    .targetTierType(MembershipTierType.PLATINUM)
+                    .build());
+            throw new IllegalStateException("Ineligible upgrade was not rejected");
+        } catch (RejectedException e) {
+            return e.getCode();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.service.MembershipService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscribe-then-cancel cycles for a member with {@code pastSubscriptions} earlier
+ * subscriptions. Hibernate statistics count the entities each cycle loads; the write paths
+ * must not read the history, so a cycle loading more than {@code maxEntityLoads} fails the run
+ * whatever the history length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(1)
+public class SubscriptionHistoryBenchmark {
+
+    private static final String USER_ID = "renewing-member";
+
+    @Param({"0", "50"})
+    public int pastSubscriptions;
+
+    @Param({"8"})
+    public long maxEntityLoads;
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private Statistics statistics;
+    private SubscribeRequest request;
+    private long cycles;
+    private long entityLoads;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication(
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN");
+        membershipService = context.getBean(MembershipService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(USER_ID)
+                .email(USER_ID + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+        request = SubscribeRequest.builder()
+                .userId(USER_ID)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.SILVER)
+                .autoRenew(false)
+                .build();
+        for (int i = 0; i < pastSubscriptions; i++) {
+            cycle();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkEntityLoads() {
+        double perCycle = cycles == 0 ? 0 : (double) entityLoads / cycles;
+        System.out.printf("%n%d past subscriptions: %.2f entities loaded per cycle over %d cycles%n",
+                pastSubscriptions, perCycle, cycles);
+        if (perCycle > maxEntityLoads) {
+            throw new IllegalStateException("Subscribe and cancel loaded " + perCycle
+                    + " entities per cycle, expected at most " + maxEntityLoads);
+        }
+        cycles = 0;
+        entityLoads = 0;
+    }
+
+    @Benchmark
+    public void subscribeAndCancel() {
+        long before = statistics.getEntityLoadCount();
+        cycle();
+        entityLoads += statistics.getEntityLoadCount() - before;
+        cycles++;
+    }
+
+    private void cycle() {
+        membershipService.subscribe(request);
+        membershipService.cancelSubscription(USER_ID, "renewal history");
+    }
+}
@@ -0,0 +1,83 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.service.impl.SubscriptionLifecycleEngine;
+import com.firstclub.membership.service.impl.SubscriptionLifecycleEngine.RunResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One lifecycle run over {@code dueSubscriptions} lapsed subscriptions, half of them
+ * auto-renewing. Each iteration seeds a fresh set of members and due subscriptions with
+ * set-based inserts (ids drawn straight from the entity sequences), then times a single run;
+ * the run must account for every seeded row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class SubscriptionLifecycleBenchmark {
+
+    @Param({"20000"})
+    public int dueSubscriptions;
+
+    @Param({"500"})
+    public int chunkSize;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private ConfigurableApplicationContext context;
+    private SubscriptionLifecycleEngine engine;
+    private JdbcTemplate jdbcTemplate;
+    private int batch;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication(
+                "--membership.lifecycle.enabled=false",
+                "--membership.lifecycle.chunk-size=" + chunkSize,
+                "--membership.lifecycle.parallelism=" + parallelism);
+        engine = context.getBean(SubscriptionLifecycleEngine.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void seedDueSubscriptions() {
+        String prefix = "due-" + (++batch) + "-";
+        jdbcTemplate.update("INSERT INTO \"members\" (\"id\", \"created_at\", \"updated_at\", \"version\", \"active\", "
+                + "\"user_id\", \"email\", \"first_name\", \"last_name\", \"cohort\", \"total_lifetime_value\") "
+                + "SELECT NEXT VALUE FOR \"member_seq\", NOW(), NOW(), 0, TRUE, CONCAT(?, X), CONCAT(?, X, '@example.com'), 'Bench', 'Member', "
+                + "'premium', 0 FROM SYSTEM_RANGE(1, ?)", prefix, prefix, dueSubscriptions);
+        jdbcTemplate.update("INSERT INTO \"subscriptions\" (\"id\", \"created_at\", \"updated_at\", \"version\", \"active\", "
+                + "\"member_id\", \"plan_id\", \"tier_id\", \"start_date\", \"end_date\", \"status\", \"price\", "
+                + "\"auto_renew\", \"next_billing_date\", \"active_member_id\") "
+                + "SELECT NEXT VALUE FOR \"subscription_seq\", NOW(), NOW(), 0, TRUE, m.\"id\", p.\"id\", t.\"id\", DATEADD(MONTH, -1, NOW()), "
+                + "DATEADD(SECOND, -MOD(ROWNUM(), 3600) - 1, NOW()), 'ACTIVE', p.\"base_price\", MOD(ROWNUM(), 2) = 0, "
+                + "NOW(), m.\"id\" "
+                + "FROM \"members\" m, \"membership_plans\" p, \"membership_tiers\" t "
+                + "WHERE m.\"user_id\" LIKE CONCAT(?, '%') AND p.\"plan_type\" = 'MONTHLY' AND t.\"tier_type\" = 'SILVER'",
+                prefix);
+    }
+
+    @Benchmark
+    public RunResult run() {
+        RunResult result = engine.run();
+        long processed = result.getExpired() + result.getRenewed() + result.getSkipped();
+        if (processed != dueSubscriptions) {
+            throw new IllegalStateException("Run processed " + processed + " of " + dueSubscriptions + " due subscriptions");
+        }
+        System.out.printf("%n%d expired, %d renewed in %d ms (%d subscriptions/s)%n",
+                result.getExpired(), result.getRenewed(), result.getElapsed().toMillis(), result.getThroughput());
+        return result;
+    }
+}
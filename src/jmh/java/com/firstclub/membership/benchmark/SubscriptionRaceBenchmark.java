@@ -0,0 +1,175 @@
+package com.firstclub.membership.benchmark;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipPlan;
+import com.firstclub.membership.entity.Subscription;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.enums.SubscriptionStatus;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.MembershipException;
+import com.firstclub.membership.exception.RejectedException;
+import com.firstclub.membership.repository.MemberRepository;
+import com.firstclub.membership.repository.SubscriptionRepository;
+import com.firstclub.membership.service.MembershipService;
+import com.firstclub.membership.service.ReferenceDataRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrent subscribes for the same member. Each invocation creates a member and releases
+ * {@code contenders} subscribe attempts at once; exactly one may succeed, otherwise the
+ * invocation fails the run.
+ * {@code service} goes through {@link MembershipService} (member lock, then the database key);
+ * {@code unlocked} runs the same check-then-insert in READ_COMMITTED transactions with no
+ * member lock, as writers on separate instances would, so only the database key stops them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class SubscriptionRaceBenchmark {
+
+    @Param({"service", "unlocked"})
+    public String path;
+
+    @Param({"4"})
+    public int contenders;
+
+    private ConfigurableApplicationContext context;
+    private MembershipService membershipService;
+    private MemberRepository memberRepository;
+    private SubscriptionRepository subscriptionRepository;
+    private ReferenceDataRegistry referenceData;
+    private TransactionTemplate writeTransaction;
+    private ExecutorService executor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkFixtures.startApplication();
+        membershipService = context.getBean(MembershipService.class);
+        memberRepository = context.getBean(MemberRepository.class);
+        subscriptionRepository = context.getBean(SubscriptionRepository.class);
+        referenceData = context.getBean(ReferenceDataRegistry.class);
+        writeTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        writeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        executor = Executors.newFixedThreadPool(contenders);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    /**
+     * Losing contenders per second, split by how they lost
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long rejections;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rejections = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Benchmark
+    public int race(Outcomes outcomes) throws Exception {
+        String userId = "race-" + sequence.incrementAndGet();
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .firstName("Bench")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>(contenders);
+        for (int i = 0; i < contenders; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                if ("service".equals(path)) {
+                    membershipService.subscribe(subscribeRequest(userId));
+                } else {
+                    subscribeUnlocked(userId);
+                }
+                return true;
+            }));
+        }
+        start.countDown();
+
+        int successes = 0;
+        for (Future<Boolean> attempt : attempts) {
+            try {
+                attempt.get();
+                successes++;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof MembershipException) {
+                    outcomes.rejections++;
+                } else if (e.getCause() instanceof DataAccessException) {
+                    outcomes.conflicts++;
+                } else {
+                    throw e;
+                }
+            }
+        }
+        if (successes != 1) {
+            throw new IllegalStateException(successes + " concurrent subscribes succeeded for " + userId);
+        }
+        return successes;
+    }
+
+    /**
+     * subscribe's check-then-insert without the member lock or the retry
+     */
+    private void subscribeUnlocked(String userId) {
+        MembershipPlan plan = referenceData.getPlan(MembershipPlanType.MONTHLY);
+        writeTransaction.executeWithoutResult(status -> {
+            Member member = memberRepository.findByUserId(userId).orElseThrow();
+            if (subscriptionRepository.findMarkedActiveByMemberId(member.getId()).isPresent()) {
+                throw new RejectedException(ErrorCode.SUBSCRIPTION_ALREADY_ACTIVE, "Member already has an active subscription");
+            }
+            LocalDateTime startDate = LocalDateTime.now();
+            subscriptionRepository.saveAndFlush(Subscription.builder()
+                    .member(member)
+                    .plan(plan)
+                    .tier(referenceData.getTier(MembershipTierType.SILVER))
+                    .startDate(startDate)
+                    .endDate(startDate.plusMonths(plan.getDurationInMonths()))
+                    .status(SubscriptionStatus.ACTIVE)
+                    .price(plan.getBasePrice())
+                    .autoRenew(false)
+                    .build());
+        });
+    }
+
+    private static SubscribeRequest subscribeRequest(String userId) {
+        return SubscribeRequest.builder()
+                .userId(userId)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.SILVER)
+                .autoRenew(false)
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.firstclub.membership.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and response status counts for one endpoint.
+ * Latencies are recorded in microseconds from the request's scheduled start, so time spent
+ * queued behind a slow server counts against it (no coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String endpoint;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Record a completed request; {@code status} is the HTTP status, or -1 if no response arrived
+     */
+    void record(long latencyNanos, int status) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        statuses.computeIfAbsent(status < 0 ? "io-error" : String.valueOf(status), key -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            failures.increment();
+        }
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    /**
+     * Summary in milliseconds plus the compressed histogram, so runs can be merged or re-plotted later
+     */
+    Map<String, Object> toJson(double measuredSeconds) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("requests", latency.getTotalCount());
+        json.put("failures", failures.sum());
+        json.put("throughputPerSecond", round(latency.getTotalCount() / measuredSeconds));
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        statuses.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statusCounts.put(entry.getKey(), entry.getValue().sum()));
+        json.put("statuses", statusCounts);
+
+        Map<String, Object> millis = new LinkedHashMap<>();
+        millis.put("mean", round(latency.getMean() / 1000.0));
+        millis.put("p50", percentileMillis(50));
+        millis.put("p90", percentileMillis(90));
+        millis.put("p99", percentileMillis(99));
+        millis.put("p99.9", percentileMillis(99.9));
+        millis.put("max", round(latency.getMaxValue() / 1000.0));
+        json.put("latencyMillis", millis);
+        json.put("histogram", encode());
+        return json;
+    }
+
+    private double percentileMillis(double percentile) {
+        return round(latency.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private String encode() {
+        Histogram copy = latency.copy();
+        ByteBuffer buffer = ByteBuffer.allocate(copy.getNeededByteBufferCapacity());
+        int length = copy.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
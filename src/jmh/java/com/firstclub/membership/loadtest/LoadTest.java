@@ -0,0 +1,311 @@
+package com.firstclub.membership.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firstclub.membership.MembershipServiceApplication;
+import com.firstclub.membership.loadtest.Workload.Operation;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the REST API.
+ * Starts {@link MembershipServiceApplication} in-process on a random port, seeds subscribed
+ * members, then issues a weighted mix of requests at a fixed arrival rate, one task per request.
+ * Tasks run on virtual threads when the runtime has them (Java 21+), otherwise on a cached
+ * platform-thread pool. Per-endpoint HdrHistogram percentiles are written as JSON.
+ *
+ * <p>Options ({@code --name=value}): {@code rate} requests per second, {@code duration} and
+ * {@code warmup} in seconds, {@code members} to seed, {@code mix} as
+ * {@code operation:weight,...}, {@code threads} ({@code virtual} or {@code platform}),
+ * {@code logging} and {@code output}. Logging is muted by default; {@code --logging=app} keeps
+ * the application's own log levels and SQL echo, so running both ways measures what logging
+ * costs per request. Any other {@code --} argument is passed to the application, e.g.
+ * {@code --spring.profiles.active=prod}.
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_MIX =
+            "member_status:50,record_order:30,create_member:5,subscribe:5,upgrade:5,downgrade:5";
+
+    private final Options options;
+    private final HttpClient client;
+    private final Workload workload;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private LoadTest(Options options, int port, ObjectMapper objectMapper) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.workload = new Workload("http://localhost:" + port + "/api/membership", objectMapper, options.mix);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.endpoint()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try (ConfigurableApplicationContext context = startApplication(options)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTest loadTest = new LoadTest(options, port, objectMapper);
+            loadTest.seed();
+            Map<String, Object> result = loadTest.run();
+
+            Path output = Path.of(options.output);
+            if (output.getParent() != null) {
+                Files.createDirectories(output.getParent());
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+            loadTest.printSummary();
+            System.out.println("Results written to " + output.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(Options options) {
+        List<String> applicationArgs = options.applicationArgs;
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", "0");
+        defaults.put("spring.main.banner-mode", "off");
+        if (!options.applicationLogging) {
+            defaults.put("spring.jpa.show-sql", "false");
+            defaults.put("logging.level.root", "WARN");
+            defaults.put("logging.level.com.firstclub.membership", "WARN");
+            defaults.put("logging.level.org.springframework.web", "WARN");
+            defaults.put("logging.level.org.hibernate.SQL", "WARN");
+            defaults.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        }
+        // Spring joins repeated arguments rather than letting the last one win, so a default is
+        // dropped when the caller sets it, e.g. to restore a profile's logging and measure its cost
+        for (String arg : applicationArgs) {
+            int eq = arg.indexOf('=');
+            defaults.remove(eq < 0 ? arg.substring(2) : arg.substring(2, eq));
+        }
+        List<String> args = new ArrayList<>();
+        defaults.forEach((name, value) -> args.add("--" + name + "=" + value));
+        args.addAll(applicationArgs);
+        return new SpringApplicationBuilder(MembershipServiceApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        String[] userIds = workload.seed(options.members);
+        for (String userId : userIds) {
+            expectSuccess(workload.createMemberRequest(userId));
+            expectSuccess(workload.subscribeRequest(userId));
+        }
+        System.out.printf("Seeded %d subscribed members%n", userIds.length);
+    }
+
+    private void expectSuccess(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Seeding failed: " + request.uri() + " -> "
+                    + response.statusCode() + " " + response.body());
+        }
+    }
+
+    /**
+     * Issue requests on a fixed schedule. Latency is measured from each request's scheduled
+     * start, and only requests scheduled after the warmup are recorded.
+     */
+    private Map<String, Object> run() throws InterruptedException {
+        ExecutorService executor = newExecutor(options.virtualThreads);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        System.out.printf("Running %d req/s for %ds after %ds warmup on %s threads%n",
+                options.rate, options.durationSeconds, options.warmupSeconds, executorKind(executor));
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            long scheduledAt = intended;
+            Operation operation = workload.next();
+            executor.execute(() -> execute(operation, scheduledAt, scheduledAt >= measureFrom));
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            System.err.println("Requests still in flight after 1 minute; results exclude them");
+        }
+        return result(executorKind(executor));
+    }
+
+    private void execute(Operation operation, long scheduledAt, boolean measured) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        int status;
+        try {
+            status = client.send(workload.request(operation), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (measured) {
+            stats.get(operation).record(System.nanoTime() - scheduledAt, status);
+        }
+    }
+
+    private Map<String, Object> result(String executorKind) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", options.rate);
+        config.put("durationSeconds", options.durationSeconds);
+        config.put("warmupSeconds", options.warmupSeconds);
+        config.put("members", options.members);
+        config.put("mix", options.mixSpec);
+        config.put("threads", executorKind);
+        config.put("logging", options.applicationLogging ? "app" : "quiet");
+        config.put("applicationArgs", options.applicationArgs);
+
+        long requests = 0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (EndpointStats endpoint : stats.values()) {
+            if (endpoint.count() > 0) {
+                requests += endpoint.count();
+                endpoints.put(endpoint.endpoint(), endpoint.toJson(options.durationSeconds));
+            }
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", requests);
+        totals.put("throughputPerSecond", (double) requests / options.durationSeconds);
+        totals.put("maxInFlight", maxInFlight.get());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("finishedAt", Instant.now().toString());
+        result.put("javaVersion", Runtime.version().toString());
+        result.put("config", config);
+        result.put("totals", totals);
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private void printSummary() {
+        System.out.printf("%-30s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "failures", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats endpoint : stats.values()) {
+            if (endpoint.count() == 0) {
+                continue;
+            }
+            Map<String, Object> json = endpoint.toJson(options.durationSeconds);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> millis = (Map<String, Object>) json.get("latencyMillis");
+            System.out.printf("%-30s %9s %9s %9s %9s %9s %9s%n", endpoint.endpoint(), json.get("requests"), json.get("failures"),
+                    millis.get("p50"), millis.get("p99"), millis.get("p99.9"), millis.get("max"));
+        }
+        System.out.printf("max in flight: %d%n", maxInFlight.get());
+    }
+
+    /**
+     * Virtual-thread-per-task executor when available, looked up reflectively so the harness
+     * still compiles and runs on the Java 17 baseline
+     */
+    private static ExecutorService newExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Virtual threads need Java 21+, falling back to platform threads");
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "loadtest");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static String executorKind(ExecutorService executor) {
+        return executor.getClass().getSimpleName().contains("ThreadPerTask") ? "virtual" : "platform";
+    }
+
+    /**
+     * Command-line options; unrecognised {@code --} arguments are handed to the application
+     */
+    private static final class Options {
+        int rate = 200;
+        int durationSeconds = 30;
+        int warmupSeconds = 10;
+        int members = 200;
+        boolean virtualThreads = true;
+        boolean applicationLogging = false;
+        String output = "target/loadtest-result.json";
+        String mixSpec = DEFAULT_MIX;
+        Map<Operation, Integer> mix;
+        final List<String> applicationArgs = new ArrayList<>();
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                String name = separator > 0 ? arg.substring(0, separator) : arg;
+                String value = separator > 0 ? arg.substring(separator + 1) : "";
+                switch (name) {
+                    case "--rate": options.rate = positive(name, value); break;
+                    case "--duration": options.durationSeconds = positive(name, value); break;
+                    case "--warmup": options.warmupSeconds = Integer.parseInt(value); break;
+                    case "--members": options.members = positive(name, value); break;
+                    case "--threads": options.virtualThreads = !"platform".equalsIgnoreCase(value); break;
+                    case "--logging": options.applicationLogging = "app".equalsIgnoreCase(value); break;
+                    case "--output": options.output = value; break;
+                    case "--mix": options.mixSpec = value; break;
+                    default:
+                        if (!arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unrecognised argument: " + arg);
+                        }
+                        options.applicationArgs.add(arg);
+                }
+            }
+            options.mix = parseMix(options.mixSpec);
+            return options;
+        }
+
+        private static Map<Operation, Integer> parseMix(String spec) {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Mix entries must be operation:weight, got: " + entry);
+                }
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+            }
+            return mix;
+        }
+
+        private static int positive(String name, String value) {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return parsed;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.firstclub.membership.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * The mixed request stream: which endpoints are hit, how often, and for which members.
+ * Seeded members all hold a Silver subscription; members created during the run are queued so
+ * that subscribe mostly takes the success path rather than the "already subscribed" rejection.
+ */
+final class Workload {
+
+    /**
+     * One {@code MembershipController} endpoint, named by its mapping template
+     */
+    enum Operation {
+        CREATE_MEMBER("POST /members"),
+        SUBSCRIBE("POST /subscribe"),
+        UPGRADE("PUT /subscription/upgrade"),
+        DOWNGRADE("PUT /subscription/downgrade"),
+        RECORD_ORDER("POST /orders/{userId}"),
+        MEMBER_STATUS("GET /member/status/{userId}");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] UPGRADE_TARGETS = {"GOLD", "PLATINUM"};
+    private static final String[] DOWNGRADE_TARGETS = {"SILVER", "GOLD"};
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Operation[] weighted;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong memberSequence = new AtomicLong();
+    private final Queue<String> unsubscribed = new ConcurrentLinkedQueue<>();
+    private String[] seeded = new String[0];
+
+    /**
+     * @param mix relative weight per operation; operations with weight 0 are never issued
+     */
+    Workload(String baseUrl, ObjectMapper objectMapper, Map<Operation, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.weighted = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        if (weighted.length == 0) {
+            throw new IllegalArgumentException("Workload mix has no operations");
+        }
+    }
+
+    Operation next() {
+        return weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+    }
+
+    /**
+     * Requests that create and subscribe {@code members} members before the run starts
+     */
+    String[] seed(int members) {
+        seeded = new String[members];
+        for (int i = 0; i < members; i++) {
+            seeded[i] = nextUserId();
+        }
+        return seeded;
+    }
+
+    HttpRequest createMemberRequest(String userId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", userId);
+        body.put("email", userId + "@loadtest.example.com");
+        body.put("firstName", "Load");
+        body.put("lastName", "Test");
+        body.put("cohort", "premium");
+        return json("POST", "/members", body);
+    }
+
+    HttpRequest subscribeRequest(String userId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", userId);
+        body.put("planType", "MONTHLY");
+        body.put("tierType", "SILVER");
+        body.put("autoRenew", false);
+        return json("POST", "/subscribe", body);
+    }
+
+    /**
+     * Build the request for {@code operation}, choosing members and parameters at random
+     */
+    HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case CREATE_MEMBER: {
+                String userId = nextUserId();
+                unsubscribed.add(userId);
+                return createMemberRequest(userId);
+            }
+            case SUBSCRIBE: {
+                String userId = unsubscribed.poll();
+                return subscribeRequest(userId != null ? userId : randomSeeded());
+            }
+            case UPGRADE:
+                return tierChange("/subscription/upgrade", UPGRADE_TARGETS[random.nextInt(UPGRADE_TARGETS.length)]);
+            case DOWNGRADE:
+                return tierChange("/subscription/downgrade", DOWNGRADE_TARGETS[random.nextInt(DOWNGRADE_TARGETS.length)]);
+            case RECORD_ORDER: {
+                BigDecimal orderValue = BigDecimal.valueOf(random.nextInt(1_000, 20_000), 2);
+                return HttpRequest.newBuilder(uri("/orders/" + randomSeeded() + "?orderValue=" + orderValue))
+                        .timeout(REQUEST_TIMEOUT)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            }
+            case MEMBER_STATUS:
+                return HttpRequest.newBuilder(uri("/member/status/" + randomSeeded()))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private HttpRequest tierChange(String path, String targetTier) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", randomSeeded());
+        body.put("targetTierType", targetTier);
+        return json("PUT", path, body);
+    }
+
+    private HttpRequest json(String method, String path, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize request body", e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String nextUserId() {
+        return "load-" + runId + "-" + memberSequence.incrementAndGet();
+    }
+
+    private String randomSeeded() {
+        return seeded[ThreadLocalRandom.current().nextInt(seeded.length)];
+    }
+}
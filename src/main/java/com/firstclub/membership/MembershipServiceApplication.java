@@ -3,12 +3,14 @@ package com.firstclub.membership;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot application class for FirstClub Membership Service
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class MembershipServiceApplication {
 
     public static void main(String[] args) {
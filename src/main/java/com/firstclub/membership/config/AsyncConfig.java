@@ -1,5 +1,7 @@
 package com.firstclub.membership.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,13 +12,19 @@ import org.springframework.core.task.TaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * Bounded platform-thread pool; replaced by {@link VirtualThreadConfig} when virtual threads are enabled
+     */
     @Bean(name = "membershipTaskExecutor")
-    public TaskExecutor membershipTaskExecutor() {
+    @ConditionalOnProperty(name = "membership.threads.virtual", havingValue = "false", matchIfMissing = true)
+    public TaskExecutor membershipTaskExecutor(@Value("${membership.executor.core-size:4}") int coreSize,
+                                               @Value("${membership.executor.max-size:16}") int maxSize,
+                                               @Value("${membership.executor.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setThreadNamePrefix("membership-");
-        executor.setCorePoolSize(4);
-        executor.setMaxPoolSize(16);
-        executor.setQueueCapacity(100);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setAwaitTerminationSeconds(30);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.initialize();
@@ -0,0 +1,65 @@
+package com.firstclub.membership.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Connection pool sized from the thread pools that borrow connections, enabled with
+ * {@code membership.datasource.pool.derive-size=true}.
+ * The pool gets one connection per thread that can hold one at a time: Tomcat request threads,
+ * {@code membershipTaskExecutor}, the MVC async executor, the scheduler and the write-behind
+ * flusher. Requests then queue for a Tomcat thread rather than time out waiting for a connection,
+ * and resizing a thread pool resizes the connection pool with it. The pool is fixed-size (minimum
+ * idle equals maximum). An explicit {@code spring.datasource.hikari.maximum-pool-size} wins, and
+ * with virtual threads the configured pool is kept because it is then the concurrency limit.
+ */
+@Configuration
+@ConditionalOnProperty(name = "membership.datasource.pool.derive-size", havingValue = "true")
+@Slf4j
+public class ConnectionPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor derivedPoolSize(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    applyDerivedSize(dataSource, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void applyDerivedSize(HikariDataSource dataSource, Environment environment) {
+        if (environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+            log.info("Connection pool size set explicitly to {}", dataSource.getMaximumPoolSize());
+            return;
+        }
+        if (environment.getProperty("membership.threads.virtual", Boolean.class, false)) {
+            log.info("Virtual threads enabled, keeping connection pool size {}", dataSource.getMaximumPoolSize());
+            return;
+        }
+
+        int requestThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        int taskThreads = environment.getProperty("membership.executor.max-size", Integer.class, 16);
+        int asyncThreads = environment.getProperty("spring.task.execution.pool.max-size", Integer.class, Integer.MAX_VALUE);
+        int schedulerThreads = environment.getProperty("spring.task.scheduling.pool.size", Integer.class, 1);
+        int flusherThreads = environment.getProperty("membership.orders.write-behind.enabled", Boolean.class, false) ? 1 : 0;
+        if (asyncThreads == Integer.MAX_VALUE) {
+            // Unbounded MVC async executor: streaming responses are then bounded by request threads
+            asyncThreads = 0;
+        }
+
+        int poolSize = requestThreads + taskThreads + asyncThreads + schedulerThreads + flusherThreads;
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);
+        log.info("Connection pool sized to {} ({} request + {} task + {} async + {} scheduler + {} flusher threads)",
+                poolSize, requestThreads, taskThreads, asyncThreads, schedulerThreads, flusherThreads);
+    }
+}
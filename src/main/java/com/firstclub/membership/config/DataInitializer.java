@@ -25,6 +25,12 @@ public class DataInitializer {
     CommandLineRunner init(MembershipPlanRepository planRepo,
                           MembershipTierRepository tierRepo) {
         return args -> {
+            // Persistent databases (prod profile) keep the demo data across restarts
+            if (planRepo.count() > 0 || tierRepo.count() > 0) {
+                log.info("Data already exists, skipping initialization");
+                return;
+            }
+
             log.info("Initializing demo data...");
 
             // Create Membership Plans
@@ -0,0 +1,40 @@
+package com.firstclub.membership.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.Lock;
+
+/**
+ * Metrics wiring for the hot paths.
+ * Service methods are timed through {@code @Timed}; repository queries are timed by Spring Boot
+ * as {@code spring.data.repository.invocations} with a {@code method} tag per query, and the
+ * {@code membershipTaskExecutor} pool is bound as {@code executor.*} gauges automatically.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Tag repository timings with the query's lock mode, so time spent waiting on pessimistic
+     * row locks can be read off as {@code spring.data.repository.invocations{lock="PESSIMISTIC_WRITE"}}
+     */
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> {
+            Lock lock = invocation.getMethod().getAnnotation(Lock.class);
+            return Tags.of(defaults.repositoryTags(invocation))
+                    .and(Tag.of("lock", lock != null ? lock.value().name() : "NONE"));
+        };
+    }
+}
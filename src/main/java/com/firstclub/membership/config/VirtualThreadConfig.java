@@ -0,0 +1,67 @@
+package com.firstclub.membership.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread execution mode, enabled with {@code membership.threads.virtual=true}.
+ * Tomcat request handling, {@code membershipTaskExecutor} and MVC async (streaming) responses
+ * all run one virtual thread per task, so requests blocked on JDBC or member locks no longer
+ * tie up a platform thread. Concurrency is then bounded by the connection pool, not thread pools.
+ * Requires a Java 21 runtime; build with {@code -Pjava21} to target it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "membership.threads.virtual", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("Running request handling and async tasks on virtual threads");
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean(name = "membershipTaskExecutor")
+    public TaskExecutor membershipTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean
+    public WebMvcConfigurer virtualThreadAsyncSupport(ExecutorService virtualThreadExecutor) {
+        AsyncTaskExecutor executor = new TaskExecutorAdapter(virtualThreadExecutor);
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.setTaskExecutor(executor);
+            }
+        };
+    }
+
+    /**
+     * Looked up reflectively so the default Java 17 build still compiles; fails fast on older runtimes
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("membership.threads.virtual=true requires a Java 21+ runtime, running on "
+                    + Runtime.version(), e);
+        }
+    }
+}
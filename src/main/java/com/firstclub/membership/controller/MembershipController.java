@@ -1,9 +1,17 @@
 package com.firstclub.membership.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.OrderRecordRequest;
 import com.firstclub.membership.dto.request.SubscribeRequest;
 import com.firstclub.membership.dto.request.TierChangeRequest;
 import com.firstclub.membership.dto.response.*;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.RejectedException;
 import com.firstclub.membership.service.MembershipService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,10 +19,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -28,15 +42,27 @@ import java.util.List;
 public class MembershipController {
 
     private final MembershipService membershipService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/members")
     @Operation(summary = "Create a new member", description = "Register a new member in the system")
     public ResponseEntity<MembershipStatusDto> createMember(@Valid @RequestBody CreateMemberRequest request) {
-        log.info("Creating member with userId: {}", request.getUserId());
         MembershipStatusDto response = membershipService.createMember(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/members/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import members",
+               description = "Import a JSON array of new members in batches; existing userIds are reported as duplicates")
+    public ResponseEntity<MemberImportResultDto> importMembers(InputStream body) {
+        // Read the array incrementally so partner exports are never materialized as a whole
+        try (MappingIterator<CreateMemberRequest> records = objectMapper.readerFor(CreateMemberRequest.class).readValues(body)) {
+            return ResponseEntity.ok(membershipService.importMembers(malformedAsRejection(records, "member import")));
+        } catch (IOException e) {
+            throw new RejectedException(ErrorCode.MALFORMED_REQUEST, "Malformed member import: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/plans")
     @Operation(summary = "Get all membership plans", description = "Retrieve all available membership plans")
     public ResponseEntity<List<MembershipPlanDto>> getAllPlans() {
@@ -54,8 +80,6 @@ public class MembershipController {
     @PostMapping("/subscribe")
     @Operation(summary = "Subscribe to a membership", description = "Subscribe a member to a specific plan and tier")
     public ResponseEntity<SubscriptionDto> subscribe(@Valid @RequestBody SubscribeRequest request) {
-        log.info("Subscribing userId: {} to plan: {} and tier: {}", 
-                request.getUserId(), request.getPlanType(), request.getTierType());
         SubscriptionDto subscription = membershipService.subscribe(request);
         return ResponseEntity.ok(subscription);
     }
@@ -63,7 +87,6 @@ public class MembershipController {
     @PutMapping("/subscription/upgrade")
     @Operation(summary = "Upgrade membership tier", description = "Upgrade a member's tier to a higher level")
     public ResponseEntity<SubscriptionDto> upgradeTier(@Valid @RequestBody TierChangeRequest request) {
-        log.info("Upgrading tier for userId: {} to: {}", request.getUserId(), request.getTargetTierType());
         SubscriptionDto subscription = membershipService.upgradeTier(request);
         return ResponseEntity.ok(subscription);
     }
@@ -71,7 +94,6 @@ public class MembershipController {
     @PutMapping("/subscription/downgrade")
     @Operation(summary = "Downgrade membership tier", description = "Downgrade a member's tier to a lower level")
     public ResponseEntity<SubscriptionDto> downgradeTier(@Valid @RequestBody TierChangeRequest request) {
-        log.info("Downgrading tier for userId: {} to: {}", request.getUserId(), request.getTargetTierType());
         SubscriptionDto subscription = membershipService.downgradeTier(request);
         return ResponseEntity.ok(subscription);
     }
@@ -81,7 +103,6 @@ public class MembershipController {
     public ResponseEntity<Void> cancelSubscription(
             @PathVariable String userId,
             @RequestParam(required = false, defaultValue = "User requested cancellation") String reason) {
-        log.info("Cancelling subscription for userId: {}", userId);
         membershipService.cancelSubscription(userId, reason);
         return ResponseEntity.noContent().build();
     }
@@ -100,6 +121,31 @@ public class MembershipController {
         return ResponseEntity.ok(eligibleTiers);
     }
 
+    @GetMapping(value = "/tier/eligibility", produces = "application/x-ndjson")
+    @Operation(summary = "Bulk tier eligibility sweep",
+               description = "Stream eligibility for all members (optionally one cohort and target tier) as NDJSON")
+    public ResponseEntity<StreamingResponseBody> streamTierEligibility(
+            @RequestParam(required = false) MembershipTierType tierType,
+            @RequestParam(required = false) String cohort,
+            @RequestParam(required = false) Integer chunkSize) {
+        log.info("Starting eligibility sweep for tier: {} and cohort: {}", tierType, cohort);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        StreamingResponseBody body = out -> membershipService.streamTierEligibility(tierType, cohort, chunkSize, chunk -> {
+            try {
+                for (MemberEligibilityDto result : chunk) {
+                    out.write(writer.writeValueAsBytes(result));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/benefits/{userId}")
     @Operation(summary = "Get member benefits", description = "Get active benefits for a member")
     public ResponseEntity<List<BenefitDto>> getMemberBenefits(@PathVariable String userId) {
@@ -107,13 +153,50 @@ public class MembershipController {
         return ResponseEntity.ok(benefits);
     }
 
+    @PostMapping(value = "/orders", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Record a batch of orders",
+               description = "Record a JSON array of {userId, orderValue, orderId} records; orderId makes retries idempotent")
+    public ResponseEntity<OrderBatchResultDto> recordOrders(InputStream body) {
+        // Read the array incrementally so large batches are never materialized as a whole
+        try (MappingIterator<OrderRecordRequest> records = objectMapper.readerFor(OrderRecordRequest.class).readValues(body)) {
+            return ResponseEntity.ok(membershipService.recordOrders(malformedAsRejection(records, "order batch")));
+        } catch (IOException e) {
+            throw new RejectedException(ErrorCode.MALFORMED_REQUEST, "Malformed order batch: " + e.getMessage());
+        }
+    }
+
     @PostMapping("/orders/{userId}")
     @Operation(summary = "Record an order", description = "Record an order for a member to update statistics")
     public ResponseEntity<Void> recordOrder(
             @PathVariable String userId,
             @RequestParam BigDecimal orderValue) {
-        log.info("Recording order for userId: {} with value: {}", userId, orderValue);
         membershipService.recordOrder(userId, orderValue);
         return ResponseEntity.accepted().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Surface unreadable records as a client error. Chunks before the malformed record have
+     * already been applied, which is safe because resubmitted records are reported as duplicates.
+     */
+    private static <T> Iterator<T> malformedAsRejection(MappingIterator<T> records, String what) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return records.hasNextValue();
+                } catch (IOException e) {
+                    throw new RejectedException(ErrorCode.MALFORMED_REQUEST, "Malformed " + what + ": " + e.getMessage());
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return records.nextValue();
+                } catch (IOException e) {
+                    throw new RejectedException(ErrorCode.MALFORMED_REQUEST, "Malformed " + what + ": " + e.getMessage());
+                }
+            }
+        };
+    }
+}
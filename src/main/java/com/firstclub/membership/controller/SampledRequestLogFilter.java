@@ -0,0 +1,56 @@
+package com.firstclub.membership.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request log that replaces per-call INFO lines in the controller and service.
+ * One line per request with method, path, status and duration, written for a random sample of
+ * requests ({@code membership.logging.requests.sample-rate}) and always for server errors and
+ * requests slower than {@code membership.logging.requests.slow-ms}. Request counts and latencies
+ * for every request are in the {@code http.server.requests} metrics.
+ */
+@Component
+@Slf4j
+public class SampledRequestLogFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+    private final long slowNanos;
+
+    public SampledRequestLogFilter(@Value("${membership.logging.requests.sample-rate:0.01}") double sampleRate,
+                                   @Value("${membership.logging.requests.slow-ms:1000}") long slowMs) {
+        this.sampleRate = sampleRate;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!log.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = response.getStatus();
+            if (status >= 500 || elapsed >= slowNanos || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status,
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.firstclub.membership.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for one order in a batch; orderId is the idempotency key
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRecordRequest {
+
+    @NotBlank(message = "User ID is required")
+    private String userId;
+
+    @NotNull(message = "Order value is required")
+    @DecimalMin(value = "0.00", message = "Order value must not be negative")
+    @Digits(integer = 8, fraction = 2, message = "Order value must have at most 8 integer digits and 2 decimals")
+    private BigDecimal orderValue;
+
+    @NotBlank(message = "Order ID is required")
+    @Size(max = 100, message = "Order ID must be at most 100 characters")
+    private String orderId;
+}
@@ -1,18 +1,17 @@
 package com.firstclub.membership.dto.response;
 
 import com.firstclub.membership.enums.BenefitType;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 /**
- * Response DTO for benefit information
+ * Response DTO for benefit information.
+ * Immutable, because the mapper shares one instance per catalog tier across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class BenefitDto {
 
     private Long id;
@@ -0,0 +1,24 @@
+package com.firstclub.membership.dto.response;
+
+import com.firstclub.membership.enums.MembershipTierType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one line of a bulk tier eligibility sweep
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberEligibilityDto {
+
+    private String userId;
+    private String cohort;
+    private List<MembershipTierType> eligibleTiers;
+    private MembershipTierType highestTier;
+}
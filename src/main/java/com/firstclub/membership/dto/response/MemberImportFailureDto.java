@@ -0,0 +1,22 @@
+package com.firstclub.membership.dto.response;
+
+import com.firstclub.membership.enums.MemberImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a record of a bulk member import that was not imported
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportFailureDto {
+
+    private long row;
+    private String userId;
+    private MemberImportStatus status;
+    private String message;
+}
@@ -0,0 +1,27 @@
+package com.firstclub.membership.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a bulk member import: totals, throughput and the records that were not imported
+ * (the first {@code membership.members.import.max-reported-failures} of them)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberImportResultDto {
+
+    private long received;
+    private long imported;
+    private long duplicates;
+    private long rejected;
+    private long elapsedMs;
+    private long rowsPerSecond;
+    private List<MemberImportFailureDto> failures;
+}
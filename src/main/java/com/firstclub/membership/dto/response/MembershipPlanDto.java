@@ -1,20 +1,19 @@
 package com.firstclub.membership.dto.response;
 
 import com.firstclub.membership.enums.MembershipPlanType;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 
 /**
- * Response DTO for membership plan information
+ * Response DTO for membership plan information.
+ * Immutable, because cached member statuses share it across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class MembershipPlanDto {
 
     private Long id;
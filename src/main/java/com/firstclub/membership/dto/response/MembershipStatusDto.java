@@ -1,20 +1,19 @@
 package com.firstclub.membership.dto.response;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 /**
- * Response DTO for member's current membership status
+ * Response DTO for member's current membership status.
+ * Immutable, because the status cache shares one instance across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class MembershipStatusDto {
 
     private String userId;
@@ -1,20 +1,19 @@
 package com.firstclub.membership.dto.response;
 
 import com.firstclub.membership.enums.MembershipTierType;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 /**
- * Response DTO for membership tier information
+ * Response DTO for membership tier information.
+ * Immutable, because the mapper shares one instance per catalog tier across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class MembershipTierDto {
 
     private Long id;
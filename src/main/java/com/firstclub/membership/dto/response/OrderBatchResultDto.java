@@ -0,0 +1,25 @@
+package com.firstclub.membership.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a batch order submission: totals and the records that were not accepted
+ * (the first {@code membership.orders.batch.max-reported-failures} of them, in submission order)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchResultDto {
+
+    private long received;
+    private long accepted;
+    private long duplicates;
+    private long rejected;
+    private List<OrderRecordResultDto> failures;
+}
@@ -0,0 +1,22 @@
+package com.firstclub.membership.dto.response;
+
+import com.firstclub.membership.enums.OrderRecordStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for the outcome of one record in a batch order submission
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRecordResultDto {
+
+    private String orderId;
+    private String userId;
+    private OrderRecordStatus status;
+    private String message;
+}
@@ -1,23 +1,23 @@
 package com.firstclub.membership.dto.response;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
- * Response DTO for order statistics
+ * Response DTO for order statistics.
+ * Immutable, because cached member statuses share it across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class OrderStatisticsDto {
 
     private Integer totalOrderCount;
+    // Monthly figures cover the trailing 30 days, including today
     private Integer monthlyOrderCount;
     private BigDecimal totalOrderValue;
     private BigDecimal monthlyOrderValue;
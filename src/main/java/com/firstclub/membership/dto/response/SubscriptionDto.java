@@ -1,21 +1,20 @@
 package com.firstclub.membership.dto.response;
 
 import com.firstclub.membership.enums.SubscriptionStatus;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
- * Response DTO for subscription information
+ * Response DTO for subscription information.
+ * Immutable, because cached member statuses share it across requests.
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@Jacksonized
 public class SubscriptionDto {
 
     private Long id;
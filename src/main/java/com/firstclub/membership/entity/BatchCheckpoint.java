@@ -0,0 +1,55 @@
+package com.firstclub.membership.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a keyset-paginated batch job.
+ * While a run is in progress {@code cutoff} is set and ({@code afterEndDate}, {@code afterId})
+ * is the position up to which every chunk has committed; a run that finds a cutoff left behind
+ * by a crashed run resumes from that position with the same cutoff.
+ */
+@Entity
+@Table(name = "batch_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class BatchCheckpoint extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private String jobName;
+
+    @Column
+    private LocalDateTime cutoff;
+
+    @Column
+    private LocalDateTime afterEndDate;
+
+    @Column
+    private Long afterId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long expired = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long renewed = 0L;
+
+    @Column
+    private LocalDateTime lastCompletedAt;
+
+    /**
+     * Check if a run is in progress (or was interrupted)
+     */
+    @Transient
+    public boolean isRunning() {
+        return cutoff != null;
+    }
+}
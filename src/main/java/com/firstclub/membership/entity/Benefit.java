@@ -8,6 +8,7 @@ import lombok.*;
  * Represents a benefit associated with a membership tier
  */
 @Entity
+@EntityListeners(TierCatalogChangeListener.class)
 @Table(name = "benefits", indexes = {
     @Index(name = "idx_benefit_tier", columnList = "tier_id"),
     @Index(name = "idx_benefit_type", columnList = "benefit_type")
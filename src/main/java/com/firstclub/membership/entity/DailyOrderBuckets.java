@@ -0,0 +1,225 @@
+package com.firstclub.membership.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Fixed ring of daily order buckets covering the last {@link #DAYS} days.
+ * Counts and values (in cents) are held in two primitive arrays indexed by epoch day modulo
+ * the ring size, so "orders in the last N days" is an exact sum over at most N buckets and
+ * days simply age out of the window instead of being reset on a calendar boundary.
+ * Instances are immutable: every update returns a new ring. The stored form is one
+ * {@link OrderDailyBucket} row per member and day; a ring is an in-memory view of those rows
+ * (or of orders coalesced before they are written). An empty view shares {@link #EMPTY} and
+ * costs nothing; one with orders costs about 1.1 KB of heap (90 ints + 90 longs plus array headers).
+ */
+public final class DailyOrderBuckets {
+
+    /**
+     * Longest window that can be answered exactly
+     */
+    public static final int DAYS = 90;
+
+    public static final DailyOrderBuckets EMPTY = new DailyOrderBuckets(Long.MIN_VALUE, null, null);
+
+    // Current epoch day in the system zone, recomputed only when the clock passes midnight
+    private static volatile long currentDay;
+    private static volatile long nextDayStartMillis = Long.MIN_VALUE;
+
+    // Newest epoch day with a bucket; buckets older than headDay - DAYS have aged out
+    private final long headDay;
+    private final int[] counts;
+    private final long[] valueCents;
+
+    private DailyOrderBuckets(long headDay, int[] counts, long[] valueCents) {
+        this.headDay = headDay;
+        this.counts = counts;
+        this.valueCents = valueCents;
+    }
+
+    /**
+     * Build a ring from stored bucket rows, anchored at the newest row's day
+     */
+    public static DailyOrderBuckets of(Collection<OrderDailyBucket> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        long head = Long.MIN_VALUE;
+        for (OrderDailyBucket row : rows) {
+            head = Math.max(head, row.getEpochDay());
+        }
+
+        DailyOrderBuckets buckets = new DailyOrderBuckets(head, new int[DAYS], new long[DAYS]);
+        for (OrderDailyBucket row : rows) {
+            if (row.getEpochDay() > head - DAYS) {
+                int index = buckets.index(row.getEpochDay());
+                buckets.counts[index] += row.getOrderCount();
+                buckets.valueCents[index] += row.getValueCents();
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Return a ring with orders added to the bucket for {@code day}; days older than the window are ignored
+     */
+    public DailyOrderBuckets plus(LocalDate day, int orderCount, BigDecimal orderValue) {
+        return plus(day.toEpochDay(), orderCount, toCents(orderValue));
+    }
+
+    /**
+     * Return a ring with orders added to the bucket for {@code epochDay}; days older than the window are ignored
+     */
+    public DailyOrderBuckets plus(long epochDay, int orderCount, long orderValueCents) {
+        if (orderCount == 0 || (counts != null && epochDay <= headDay - DAYS)) {
+            return this;
+        }
+
+        DailyOrderBuckets next = advancedTo(Math.max(epochDay, headDay));
+        int index = index(epochDay);
+        next.counts[index] += orderCount;
+        next.valueCents[index] += orderValueCents;
+        return next;
+    }
+
+    /**
+     * Return a ring with every bucket of {@code other} added
+     */
+    public DailyOrderBuckets plus(DailyOrderBuckets other) {
+        if (other.counts == null) {
+            return this;
+        }
+        if (counts == null) {
+            return other;
+        }
+
+        DailyOrderBuckets next = advancedTo(Math.max(headDay, other.headDay));
+        for (long day = other.headDay - DAYS + 1; day <= other.headDay; day++) {
+            int index = index(day);
+            if (other.counts[index] != 0 && day > next.headDay - DAYS) {
+                next.counts[index] += other.counts[index];
+                next.valueCents[index] += other.valueCents[index];
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Number of orders in the {@code days} days ending on {@code today} (inclusive)
+     */
+    public int orderCount(int days, long today) {
+        if (counts == null) {
+            return 0;
+        }
+        int total = 0;
+        for (long day = firstDay(days, today), last = Math.min(today, headDay); day <= last; day++) {
+            total += counts[index(day)];
+        }
+        return total;
+    }
+
+    /**
+     * Total order value in the {@code days} days ending on {@code today} (inclusive)
+     */
+    public BigDecimal orderValue(int days, long today) {
+        return BigDecimal.valueOf(orderValueCents(days, today), 2);
+    }
+
+    /**
+     * Total order value in cents in the {@code days} days ending on {@code today} (inclusive)
+     */
+    public long orderValueCents(int days, long today) {
+        if (counts == null) {
+            return 0;
+        }
+        long total = 0;
+        for (long day = firstDay(days, today), last = Math.min(today, headDay); day <= last; day++) {
+            total += valueCents[index(day)];
+        }
+        return total;
+    }
+
+    /**
+     * Today's epoch day in the system zone, without allocating on the hot path
+     */
+    public static long currentEpochDay() {
+        if (System.currentTimeMillis() >= nextDayStartMillis) {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate today = LocalDate.now(zone);
+            currentDay = today.toEpochDay();
+            nextDayStartMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        }
+        return currentDay;
+    }
+
+    public boolean isEmpty() {
+        return counts == null;
+    }
+
+    /**
+     * Visit each day with orders, oldest first
+     */
+    public void forEachDay(DayVisitor visitor) {
+        if (counts == null) {
+            return;
+        }
+        for (long day = headDay - DAYS + 1; day <= headDay; day++) {
+            int index = index(day);
+            if (counts[index] != 0) {
+                visitor.visit(day, counts[index], valueCents[index]);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DailyOrderBuckets)) return false;
+        DailyOrderBuckets that = (DailyOrderBuckets) o;
+        return headDay == that.headDay
+                && Arrays.equals(counts, that.counts)
+                && Arrays.equals(valueCents, that.valueCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(headDay) + Arrays.hashCode(counts);
+    }
+
+    /**
+     * Copy the ring, moving its head forward to {@code newHead} and clearing the days that fall out
+     */
+    private DailyOrderBuckets advancedTo(long newHead) {
+        if (counts == null) {
+            return new DailyOrderBuckets(newHead, new int[DAYS], new long[DAYS]);
+        }
+        DailyOrderBuckets next = new DailyOrderBuckets(newHead, counts.clone(), valueCents.clone());
+        for (long day = Math.max(headDay + 1, newHead - DAYS + 1); day <= newHead; day++) {
+            int index = index(day);
+            next.counts[index] = 0;
+            next.valueCents[index] = 0;
+        }
+        return next;
+    }
+
+    @FunctionalInterface
+    public interface DayVisitor {
+        void visit(long epochDay, int orderCount, long orderValueCents);
+    }
+
+    private long firstDay(int days, long today) {
+        return Math.max(today - Math.min(days, DAYS) + 1, headDay - DAYS + 1);
+    }
+
+    private int index(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) DAYS);
+    }
+
+    private static long toCents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -2,9 +2,12 @@ package com.firstclub.membership.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -20,8 +23,8 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"subscriptions", "orderStatistics"})
-@EqualsAndHashCode(callSuper = true, exclude = {"subscriptions", "orderStatistics"})
+@ToString(exclude = {"subscriptions", "orderStatistics", "recentOrderBuckets", "recentOrders"})
+@EqualsAndHashCode(callSuper = true, exclude = {"subscriptions", "orderStatistics", "recentOrderBuckets", "recentOrders"})
 public class Member extends BaseEntity {
 
     @Column(nullable = false, unique = true)
@@ -49,12 +52,36 @@ public class Member extends BaseEntity {
     @OneToOne(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private OrderStatistics orderStatistics;
 
-    @Column(nullable = false)
+    @Column(nullable = false, precision = 38, scale = 2)
     @Builder.Default
     private BigDecimal totalLifetimeValue = BigDecimal.ZERO;
 
+    // Read-only view of the daily bucket rows; upserts write them and the daily purge keeps only
+    // about DAYS of them. Windows are cut against today's date in Java, so any unpurged row is ignored.
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", insertable = false, updatable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<OrderDailyBucket> recentOrderBuckets = new ArrayList<>();
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private DailyOrderBuckets recentOrders;
+
+    /**
+     * Recent orders as a ring, built once from the bucket rows so repeated window sums do not rescan them
+     */
+    @Transient
+    public DailyOrderBuckets getRecentOrders() {
+        if (recentOrders == null) {
+            recentOrders = DailyOrderBuckets.of(recentOrderBuckets);
+        }
+        return recentOrders;
+    }
+
     /**
-     * Get the currently active subscription if exists
+     * Get the currently active subscription if exists.
+     * Scans the full history; request paths look it up by the active-member key instead.
      */
     @Transient
     public Subscription getActiveSubscription() {
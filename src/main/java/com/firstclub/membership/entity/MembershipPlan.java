@@ -10,6 +10,7 @@ import java.math.BigDecimal;
  * Represents a membership plan configuration
  */
 @Entity
+@EntityListeners(MembershipPlanChangeListener.class)
 @Table(name = "membership_plans", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"planType"}))
 @Getter
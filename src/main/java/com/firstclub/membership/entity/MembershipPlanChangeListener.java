@@ -0,0 +1,44 @@
+package com.firstclub.membership.entity;
+
+import com.firstclub.membership.service.ReferenceDataRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener that reloads the in-memory plans when a plan changes.
+ * The reload is deferred until commit so it never reads uncommitted data.
+ */
+@Component
+public class MembershipPlanChangeListener {
+
+    private final ObjectProvider<ReferenceDataRegistry> referenceData;
+
+    public MembershipPlanChangeListener(ObjectProvider<ReferenceDataRegistry> referenceData) {
+        this.referenceData = referenceData;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        referenceData.ifAvailable(ReferenceDataRegistry::refreshPlans);
+    }
+}
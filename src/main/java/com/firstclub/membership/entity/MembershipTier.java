@@ -11,6 +11,7 @@ import java.util.Set;
  * Represents a membership tier with its associated benefits
  */
 @Entity
+@EntityListeners(TierCatalogChangeListener.class)
 @Table(name = "membership_tiers",
        uniqueConstraints = @UniqueConstraint(columnNames = {"tierType"}))
 @Getter
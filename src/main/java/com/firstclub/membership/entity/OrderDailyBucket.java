@@ -0,0 +1,49 @@
+package com.firstclub.membership.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Orders a member placed on one day, backing time-bounded eligibility criteria.
+ * One row per member and epoch day, written only by atomic upserts that add to the counters,
+ * so concurrent orders never read-modify-write a shared value. Rows older than
+ * {@link DailyOrderBuckets#DAYS} days fall out of every window and are purged daily.
+ * Unlike other entities these rows carry no audit columns or version: they are counters,
+ * never loaded for update.
+ */
+@Entity
+@Table(name = "order_daily_buckets")
+@IdClass(OrderDailyBucket.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDailyBucket {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "epoch_day")
+    private Long epochDay;
+
+    @Column(nullable = false)
+    private Integer orderCount;
+
+    @Column(nullable = false)
+    private Long valueCents;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private Long epochDay;
+    }
+}
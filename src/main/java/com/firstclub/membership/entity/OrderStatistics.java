@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -23,6 +24,11 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true, exclude = {"member"})
 public class OrderStatistics extends BaseEntity {
 
+    /**
+     * Window of the rolling "monthly" figures reported with a member's status
+     */
+    public static final int ROLLING_MONTH_DAYS = 30;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false, unique = true)
     private Member member;
@@ -31,18 +37,10 @@ public class OrderStatistics extends BaseEntity {
     @Builder.Default
     private Integer totalOrderCount = 0;
 
-    @Column(nullable = false)
-    @Builder.Default
-    private Integer monthlyOrderCount = 0;
-
     @Column(nullable = false, precision = 10, scale = 2)
     @Builder.Default
     private BigDecimal totalOrderValue = BigDecimal.ZERO;
 
-    @Column(nullable = false, precision = 10, scale = 2)
-    @Builder.Default
-    private BigDecimal monthlyOrderValue = BigDecimal.ZERO;
-
     @Column(nullable = false, precision = 10, scale = 2)
     @Builder.Default
     private BigDecimal averageOrderValue = BigDecimal.ZERO;
@@ -56,53 +54,35 @@ public class OrderStatistics extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime lastUpdated;
 
-    @Column(nullable = false)
-    private LocalDateTime monthlyStatsResetDate;
-
     /**
-     * Update statistics with a new order
+     * Update the scalar statistics with a new order; daily buckets are written separately
      */
     public void recordOrder(BigDecimal orderValue) {
         LocalDateTime now = LocalDateTime.now();
-        
-        // Update counts
-        totalOrderCount++;
-        monthlyOrderCount++;
-        
-        // Update values
+        recordOrders(1, orderValue, now, now);
+    }
+
+    /**
+     * Update the scalar statistics with an aggregated batch of orders
+     */
+    public void recordOrders(int orderCount, BigDecimal orderValue,
+                             LocalDateTime firstOrderAt, LocalDateTime lastOrderAt) {
+        // Update counts and values
+        totalOrderCount += orderCount;
         totalOrderValue = totalOrderValue.add(orderValue);
-        monthlyOrderValue = monthlyOrderValue.add(orderValue);
         
         // Update average
         averageOrderValue = totalOrderValue.divide(
-            BigDecimal.valueOf(totalOrderCount), 2, BigDecimal.ROUND_HALF_UP
+            BigDecimal.valueOf(totalOrderCount), 2, RoundingMode.HALF_UP
         );
         
         // Update dates
-        if (firstOrderDate == null) {
-            firstOrderDate = now;
+        if (firstOrderDate == null || firstOrderAt.isBefore(firstOrderDate)) {
+            firstOrderDate = firstOrderAt;
+        }
+        if (lastOrderDate == null || lastOrderAt.isAfter(lastOrderDate)) {
+            lastOrderDate = lastOrderAt;
         }
-        lastOrderDate = now;
-        lastUpdated = now;
-    }
-
-    /**
-     * Reset monthly statistics
-     */
-    public void resetMonthlyStats() {
-        monthlyOrderCount = 0;
-        monthlyOrderValue = BigDecimal.ZERO;
-        monthlyStatsResetDate = LocalDateTime.now();
         lastUpdated = LocalDateTime.now();
     }
-
-    /**
-     * Check if monthly stats need reset (called at the start of each month)
-     */
-    public boolean needsMonthlyReset() {
-        LocalDateTime now = LocalDateTime.now();
-        return monthlyStatsResetDate == null || 
-               now.getMonth() != monthlyStatsResetDate.getMonth() ||
-               now.getYear() != monthlyStatsResetDate.getYear();
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.firstclub.membership.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence-per-entity id generator with the pooled optimizer.
+ * Each entity draws ids from its own sequence ({@code member_seq}, {@code subscription_seq}, ...)
+ * and reserves a block of them per round trip, so inserts no longer wait on the database for
+ * their key and can be sent as JDBC batches. The block size is the
+ * {@value #ALLOCATION_SIZE_SETTING} Hibernate property ({@code spring.jpa.properties.*},
+ * default 50); it must match the sequence's increment.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "membership.ids.allocation-size";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING,
+                serviceRegistry.getService(ConfigurationService.class).getSettings(), DEFAULT_INCREMENT_SIZE);
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        // Name the sequence after the entity rather than the shared generator
+        parameters.put(SEQUENCE_PARAM, parameters.getProperty(JPA_ENTITY_NAME) + DEF_SEQUENCE_SUFFIX);
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
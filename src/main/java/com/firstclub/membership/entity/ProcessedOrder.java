@@ -0,0 +1,43 @@
+package com.firstclub.membership.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency record for an order applied through batch ingestion
+ */
+@Entity
+@Table(name = "processed_orders", indexes = {
+    @Index(name = ProcessedOrder.ORDER_ID_KEY, columnList = "orderId", unique = true),
+    @Index(name = "idx_processed_order_at", columnList = "processedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = {"member"})
+@EqualsAndHashCode(callSuper = true, exclude = {"member"})
+public class ProcessedOrder extends BaseEntity {
+
+    /**
+     * Unique index enforcing the idempotency key
+     */
+    public static final String ORDER_ID_KEY = "idx_processed_order_id";
+
+    @Column(nullable = false, length = 100)
+    private String orderId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal orderValue;
+
+    @Column(nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -12,10 +12,12 @@ import java.time.LocalDateTime;
  * Represents a member's subscription to a membership plan and tier
  */
 @Entity
-@Table(name = "subscriptions", indexes = {
+@Table(name = "subscriptions",
+       uniqueConstraints = @UniqueConstraint(name = Subscription.ACTIVE_MEMBER_CONSTRAINT, columnNames = {"active_member_id"}),
+       indexes = {
     @Index(name = "idx_subscription_member", columnList = "member_id"),
     @Index(name = "idx_subscription_status", columnList = "status"),
-    @Index(name = "idx_subscription_dates", columnList = "startDate,endDate")
+    @Index(name = "idx_subscription_dates", columnList = "status,endDate")
 })
 @Getter
 @Setter
@@ -26,6 +28,8 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true, exclude = {"member"})
 public class Subscription extends BaseEntity {
 
+    public static final String ACTIVE_MEMBER_CONSTRAINT = "uk_subscription_active_member";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -65,6 +69,21 @@ public class Subscription extends BaseEntity {
     @Column
     private String cancellationReason;
 
+    /**
+     * The member's id while ACTIVE and null otherwise. Unique, so the database admits one active
+     * subscription per member: a partial unique index on member_id that works without one.
+     */
+    @Column(name = "active_member_id")
+    @Setter(AccessLevel.NONE)
+    private Long activeMemberId;
+
+    @PrePersist
+    @PreUpdate
+    void syncActiveMemberId() {
+        // Without a member, let the not-null member_id constraint reject the row instead of an NPE in the flush
+        activeMemberId = status == SubscriptionStatus.ACTIVE && member != null ? member.getId() : null;
+    }
+
     /**
      * Check if the subscription is currently active
      */
@@ -76,6 +95,32 @@ public class Subscription extends BaseEntity {
                now.isBefore(endDate);
     }
 
+    /**
+     * Extend the subscription by whole plan terms from its current end date until it ends after
+     * {@code cutoff}. Usually that is one term; a subscription that missed several (e.g. while
+     * renewals were not running) catches up on its billing anniversary in one step, so it is no
+     * longer due at the cutoff and a scan up to the cutoff cannot meet it again.
+     *
+     * @return number of terms added
+     */
+    public int renewPast(LocalDateTime cutoff) {
+        int termMonths = plan.getDurationInMonths();
+        if (termMonths <= 0) {
+            throw new IllegalStateException("Plan " + plan.getId() + " has no renewable term");
+        }
+
+        // Offsets from the original end date, so month-end dates do not drift across terms
+        LocalDateTime termEnd = endDate;
+        int terms = 0;
+        while (!termEnd.isAfter(cutoff)) {
+            terms++;
+            termEnd = endDate.plusMonths((long) termMonths * terms);
+        }
+        endDate = termEnd;
+        nextBillingDate = endDate;
+        return terms;
+    }
+
     /**
      * Check if the subscription can be upgraded
      */
@@ -0,0 +1,44 @@
+package com.firstclub.membership.entity;
+
+import com.firstclub.membership.service.TierCatalogService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener that invalidates the tier catalog when tiers, benefits or criteria change.
+ * Invalidation is deferred until commit so the rebuild never reads uncommitted data.
+ */
+@Component
+public class TierCatalogChangeListener {
+
+    private final ObjectProvider<TierCatalogService> catalogService;
+
+    public TierCatalogChangeListener(ObjectProvider<TierCatalogService> catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        catalogService.ifAvailable(TierCatalogService::invalidate);
+    }
+}
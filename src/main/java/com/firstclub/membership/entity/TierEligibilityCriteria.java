@@ -7,6 +7,7 @@ import lombok.*;
  * Represents the eligibility criteria for a membership tier
  */
 @Entity
+@EntityListeners(TierCatalogChangeListener.class)
 @Table(name = "tier_eligibility_criteria", indexes = {
     @Index(name = "idx_criteria_tier", columnList = "tier_id"),
     @Index(name = "idx_criteria_type", columnList = "criteria_type")
@@ -0,0 +1,17 @@
+package com.firstclub.membership.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of one record in a bulk member import
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MemberImportStatus {
+    IMPORTED("Imported"),
+    DUPLICATE("Duplicate"),
+    REJECTED("Rejected");
+
+    private final String displayName;
+}
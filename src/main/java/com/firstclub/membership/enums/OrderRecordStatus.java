@@ -0,0 +1,17 @@
+package com.firstclub.membership.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of one record in a batch order submission
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderRecordStatus {
+    ACCEPTED("Accepted"),
+    DUPLICATE("Duplicate"),
+    REJECTED("Rejected");
+
+    private final String displayName;
+}
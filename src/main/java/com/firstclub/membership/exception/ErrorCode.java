@@ -0,0 +1,30 @@
+package com.firstclub.membership.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Error codes returned to clients, each with the HTTP status it maps to
+ */
+public enum ErrorCode {
+    MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    PLAN_NOT_FOUND(HttpStatus.NOT_FOUND),
+    TIER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    NO_ACTIVE_SUBSCRIPTION(HttpStatus.NOT_FOUND),
+    MEMBER_ALREADY_EXISTS(HttpStatus.CONFLICT),
+    SUBSCRIPTION_ALREADY_ACTIVE(HttpStatus.CONFLICT),
+    NOT_ELIGIBLE(HttpStatus.UNPROCESSABLE_ENTITY),
+    INVALID_TIER_CHANGE(HttpStatus.UNPROCESSABLE_ENTITY),
+    MALFORMED_REQUEST(HttpStatus.BAD_REQUEST),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -1,40 +1,58 @@
 package com.firstclub.membership.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Global exception handler for REST APIs
+ * Global exception handler for REST APIs.
+ * Responses carry an {@link ErrorCode} and its HTTP status (404 unknown resources, 409 state
+ * conflicts, 422 broken business rules, 400 malformed or invalid requests). Rejections and
+ * invalid requests are expected outcomes: they are counted as {@code membership.rejections} per
+ * endpoint and code and only logged at DEBUG. Other failures are logged at ERROR with the full trace.
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    @ExceptionHandler(RejectedException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedException(RejectedException ex, HttpServletRequest request) {
+        countRejection(request, ex.getCode());
+        log.debug("Request rejected [{}]: {}", ex.getCode(), ex.getMessage());
+        
+        return errorResponse(ex.getCode(), ex.getMessage());
+    }
+
     @ExceptionHandler(MembershipException.class)
     public ResponseEntity<ErrorResponse> handleMembershipException(MembershipException ex) {
-        log.error("Membership exception: {}", ex.getMessage());
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Membership Error")
-                .message(ex.getMessage())
-                .build();
+        log.error("Membership error [{}]", ex.getCode(), ex);
         
-        return ResponseEntity.badRequest().body(error);
+        return errorResponse(ex.getCode(), ex.getMessage());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex,
+                                                                    HttpServletRequest request) {
+        countRejection(request, ErrorCode.VALIDATION_FAILED);
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
@@ -46,6 +64,7 @@ public class GlobalExceptionHandler {
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Validation Failed")
+                .code(ErrorCode.VALIDATION_FAILED)
                 .message("Invalid request parameters")
                 .validationErrors(errors)
                 .build();
@@ -53,6 +72,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(HttpMessageNotReadableException ex,
+                                                              HttpServletRequest request) {
+        countRejection(request, ErrorCode.MALFORMED_REQUEST);
+        log.debug("Malformed request body: {}", ex.getMessage());
+        
+        return errorResponse(ErrorCode.MALFORMED_REQUEST, "Malformed request body");
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex,
+                                                                HttpServletRequest request) {
+        countRejection(request, ErrorCode.VALIDATION_FAILED);
+        log.debug("Missing request parameter: {}", ex.getParameterName());
+        
+        return errorResponse(ErrorCode.VALIDATION_FAILED, "Required parameter '" + ex.getParameterName() + "' is missing");
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex,
+                                                            HttpServletRequest request) {
+        countRejection(request, ErrorCode.VALIDATION_FAILED);
+        log.debug("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+        
+        return errorResponse(ErrorCode.VALIDATION_FAILED, "Invalid value for parameter '" + ex.getName() + "'");
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error", ex);
@@ -61,18 +107,46 @@ public class GlobalExceptionHandler {
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error("Internal Server Error")
+                .code(ErrorCode.INTERNAL_ERROR)
                 .message("An unexpected error occurred")
                 .build();
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
 
+    /**
+     * Tagged with the matched route template rather than the raw path, so user ids in the path
+     * (and in rejection messages) never become tag values
+     */
+    private void countRejection(HttpServletRequest request, ErrorCode code) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Counter.builder("membership.rejections")
+                .description("Requests rejected as invalid or by a business rule")
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .tag("code", code.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static ResponseEntity<ErrorResponse> errorResponse(ErrorCode code, String message) {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(code.getStatus().value())
+                .error(code.getStatus().getReasonPhrase())
+                .code(code)
+                .message(message)
+                .build();
+        
+        return ResponseEntity.status(code.getStatus()).body(error);
+    }
+
     @lombok.Data
     @lombok.Builder
     static class ErrorResponse {
         private LocalDateTime timestamp;
         private int status;
         private String error;
+        private ErrorCode code;
         private String message;
         private Map<String, String> validationErrors;
     }
@@ -1,15 +1,30 @@
 package com.firstclub.membership.exception;
 
 /**
- * Custom exception for membership service operations
+ * Custom exception for membership service operations.
+ * Thrown directly for real failures, which keep their stack trace; expected outcomes such as
+ * an unknown member are {@link RejectedException}s.
  */
 public class MembershipException extends RuntimeException {
 
-    public MembershipException(String message) {
+    private final ErrorCode code;
+
+    public MembershipException(ErrorCode code, String message) {
         super(message);
+        this.code = code;
     }
 
-    public MembershipException(String message, Throwable cause) {
+    public MembershipException(ErrorCode code, String message, Throwable cause) {
         super(message, cause);
+        this.code = code;
+    }
+
+    protected MembershipException(ErrorCode code, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package com.firstclub.membership.exception;
+
+/**
+ * A request rejected by a business rule, e.g. an unknown member or an ineligible upgrade.
+ * Rejections are control flow rather than failures, so no stack trace is captured: the throw
+ * costs about as much as allocating the message. Create one per throw; never cache instances.
+ */
+public class RejectedException extends MembershipException {
+
+    public RejectedException(ErrorCode code, String message) {
+        super(code, message, false);
+    }
+}
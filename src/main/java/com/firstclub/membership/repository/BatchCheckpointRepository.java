@@ -0,0 +1,19 @@
+package com.firstclub.membership.repository;
+
+import com.firstclub.membership.entity.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for BatchCheckpoint entity
+ */
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, Long> {
+
+    /**
+     * Find the checkpoint of a batch job
+     */
+    Optional<BatchCheckpoint> findByJobName(String jobName);
+}
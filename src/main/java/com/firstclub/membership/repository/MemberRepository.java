@@ -1,12 +1,20 @@
 package com.firstclub.membership.repository;
 
 import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.Subscription;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Member entity
@@ -19,8 +27,112 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Optional<Member> findByUserId(String userId);
 
+    /**
+     * Load everything a status read needs in one query: the member, its order statistics, its
+     * orders since {@code fromEpochDay} summed from the daily buckets, and its active subscription
+     * with plan, tier and tier benefits. Rows repeat once per benefit and are empty when the member
+     * does not exist; the active subscription is null when there is none.
+     */
+    @Query("SELECT m AS member, s AS activeSubscription, " +
+           "(SELECT COALESCE(SUM(b.orderCount), 0) FROM OrderDailyBucket b " +
+           "WHERE b.memberId = m.id AND b.epochDay >= :fromEpochDay) AS recentOrderCount, " +
+           "(SELECT COALESCE(SUM(b.valueCents), 0) FROM OrderDailyBucket b " +
+           "WHERE b.memberId = m.id AND b.epochDay >= :fromEpochDay) AS recentOrderValueCents " +
+           "FROM Member m " +
+           "LEFT JOIN FETCH m.orderStatistics " +
+           "LEFT JOIN Subscription s ON s.activeMemberId = m.id AND s.endDate > CURRENT_TIMESTAMP " +
+           "LEFT JOIN FETCH s.plan " +
+           "LEFT JOIN FETCH s.tier t " +
+           "LEFT JOIN FETCH t.benefits " +
+           "WHERE m.userId = :userId")
+    List<MemberStatusView> findStatusByUserId(@Param("userId") String userId,
+                                              @Param("fromEpochDay") long fromEpochDay);
+
+    /**
+     * Resolve a member's primary key and the tier of its active subscription, if any, in one query
+     */
+    @Query("SELECT m.id AS memberId, s.tier.id AS tierId FROM Member m " +
+           "LEFT JOIN Subscription s ON s.activeMemberId = m.id AND s.endDate > CURRENT_TIMESTAMP " +
+           "WHERE m.userId = :userId")
+    Optional<ActiveTierView> findActiveTierByUserId(@Param("userId") String userId);
+
     /**
      * Check if a member exists by userId
      */
     boolean existsByUserId(String userId);
-} 
\ No newline at end of file
+
+    /**
+     * Keyset-paginated scan of members (optionally within a cohort) with order statistics eagerly loaded
+     */
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.orderStatistics " +
+           "WHERE m.id > :afterId AND (:cohort IS NULL OR m.cohort = :cohort) ORDER BY m.id")
+    List<Member> findChunkWithStatistics(@Param("afterId") Long afterId,
+                                         @Param("cohort") String cohort,
+                                         Pageable pageable);
+
+    /**
+     * Initialize the recent daily order buckets of already loaded members in one query,
+     * so they can be evaluated off the loading thread
+     */
+    @Query("SELECT DISTINCT m FROM Member m LEFT JOIN FETCH m.recentOrderBuckets WHERE m IN :members")
+    List<Member> fetchRecentOrderBuckets(@Param("members") Collection<Member> members);
+
+    /**
+     * Resolve a member's primary key without loading the entity
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") String userId);
+
+    /**
+     * Resolve primary keys for a set of userIds in one query
+     */
+    @Query("SELECT m.id AS id, m.userId AS userId FROM Member m WHERE m.userId IN :userIds")
+    List<MemberIdView> findIdsByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Find which of the given userIds are already registered
+     */
+    @Query("SELECT m.userId FROM Member m WHERE m.userId IN :userIds")
+    Set<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Atomically add to a member's lifetime value
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.totalLifetimeValue = m.totalLifetimeValue + :amount, " +
+           "m.updatedAt = :now, m.version = m.version + 1 WHERE m.id = :memberId")
+    int addToLifetimeValue(@Param("memberId") Long memberId,
+                           @Param("amount") BigDecimal amount,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * A member with its active subscription, if any
+     */
+    interface MemberStatusView {
+        Member getMember();
+
+        Subscription getActiveSubscription();
+
+        Number getRecentOrderCount();
+
+        Number getRecentOrderValueCents();
+    }
+
+    /**
+     * Projection of a member's primary key and active tier id (null without an active subscription)
+     */
+    interface ActiveTierView {
+        Long getMemberId();
+
+        Long getTierId();
+    }
+
+    /**
+     * Projection of a member's primary key and userId
+     */
+    interface MemberIdView {
+        Long getId();
+
+        String getUserId();
+    }
+}
@@ -46,4 +46,13 @@ public interface MembershipTierRepository extends JpaRepository<MembershipTier,
      */
     @Query("SELECT DISTINCT t FROM MembershipTier t LEFT JOIN FETCH t.eligibilityCriteria WHERE t.isAvailable = true AND t.active = true ORDER BY t.level")
     List<MembershipTier> findAllWithEligibilityCriteria();
+
+    /**
+     * Find all tiers (available or not) with eligibility criteria and benefits eagerly loaded, for the tier catalog
+     */
+    @Query("SELECT DISTINCT t FROM MembershipTier t " +
+           "LEFT JOIN FETCH t.eligibilityCriteria " +
+           "LEFT JOIN FETCH t.benefits " +
+           "ORDER BY t.level")
+    List<MembershipTier> findAllForCatalog();
 } 
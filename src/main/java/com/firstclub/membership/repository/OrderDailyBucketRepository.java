@@ -0,0 +1,23 @@
+package com.firstclub.membership.repository;
+
+import com.firstclub.membership.entity.OrderDailyBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for OrderDailyBucket entity.
+ * Buckets are written by {@code OrderStatisticsUpdater}'s upsert rather than through this repository.
+ */
+@Repository
+public interface OrderDailyBucketRepository extends JpaRepository<OrderDailyBucket, OrderDailyBucket.Key> {
+
+    /**
+     * Delete buckets for days on or before {@code epochDay}
+     */
+    @Modifying
+    @Query("DELETE FROM OrderDailyBucket b WHERE b.epochDay <= :epochDay")
+    int deleteOnOrBefore(@Param("epochDay") long epochDay);
+}
@@ -3,11 +3,14 @@ package com.firstclub.membership.repository;
 import com.firstclub.membership.entity.OrderStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -21,4 +24,28 @@ public interface OrderStatisticsRepository extends JpaRepository<OrderStatistics
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT o FROM OrderStatistics o WHERE o.member.id = :memberId")
     Optional<OrderStatistics> findByMemberIdWithLock(@Param("memberId") Long memberId);
-} 
\ No newline at end of file
+
+    /**
+     * Atomically add an order delta to a member's scalar statistics in a single UPDATE.
+     * Windowed figures come from the daily bucket rows, which are upserted separately.
+     *
+     * @return number of rows updated (0 if the member has no statistics row yet)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrderStatistics o SET " +
+           "o.totalOrderCount = o.totalOrderCount + :orderCount, " +
+           "o.totalOrderValue = o.totalOrderValue + :orderValue, " +
+           "o.averageOrderValue = ROUND((o.totalOrderValue + :orderValue) / (o.totalOrderCount + :orderCount), 2), " +
+           "o.firstOrderDate = CASE WHEN o.firstOrderDate IS NULL OR o.firstOrderDate > :firstOrderAt THEN :firstOrderAt ELSE o.firstOrderDate END, " +
+           "o.lastOrderDate = CASE WHEN o.lastOrderDate IS NULL OR o.lastOrderDate < :lastOrderAt THEN :lastOrderAt ELSE o.lastOrderDate END, " +
+           "o.lastUpdated = :now, " +
+           "o.updatedAt = :now, " +
+           "o.version = o.version + 1 " +
+           "WHERE o.member.id = :memberId")
+    int applyOrderDelta(@Param("memberId") Long memberId,
+                        @Param("orderCount") int orderCount,
+                        @Param("orderValue") BigDecimal orderValue,
+                        @Param("firstOrderAt") LocalDateTime firstOrderAt,
+                        @Param("lastOrderAt") LocalDateTime lastOrderAt,
+                        @Param("now") LocalDateTime now);
+}
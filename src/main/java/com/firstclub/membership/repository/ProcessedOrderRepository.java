@@ -0,0 +1,32 @@
+package com.firstclub.membership.repository;
+
+import com.firstclub.membership.entity.ProcessedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Repository interface for ProcessedOrder entity
+ */
+@Repository
+public interface ProcessedOrderRepository extends JpaRepository<ProcessedOrder, Long> {
+
+    /**
+     * Find which of the given order IDs have already been applied
+     */
+    @Query("SELECT p.orderId FROM ProcessedOrder p WHERE p.orderId IN :orderIds")
+    Set<String> findExistingOrderIds(@Param("orderIds") Collection<String> orderIds);
+
+    /**
+     * Delete idempotency records older than the retention window
+     */
+    @Modifying
+    @Query("DELETE FROM ProcessedOrder p WHERE p.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,14 +2,17 @@ package com.firstclub.membership.repository;
 
 import com.firstclub.membership.entity.Subscription;
 import com.firstclub.membership.enums.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,59 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
      * Find active subscription for a member with pessimistic locking for concurrent updates
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Subscription s WHERE s.member.id = :memberId AND s.status = 'ACTIVE' AND s.endDate > CURRENT_TIMESTAMP")
+    @Query("SELECT s FROM Subscription s WHERE s.activeMemberId = :memberId AND s.endDate > CURRENT_TIMESTAMP")
     Optional<Subscription> findActiveByMemberIdWithLock(@Param("memberId") Long memberId);
+
+    /**
+     * Find the subscription marked ACTIVE for a member, with plan and tier, even if it has lapsed.
+     * A single-row lookup on the unique active-member key; the member's history is not read.
+     */
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.plan JOIN FETCH s.tier WHERE s.activeMemberId = :memberId")
+    Optional<Subscription> findMarkedActiveByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * Keyset-paginated scan of ACTIVE subscriptions that ended by the cutoff, in (endDate, id) order
+     */
+    @Query("SELECT s.id AS id, m.userId AS userId, s.endDate AS endDate, s.autoRenew AS autoRenew " +
+           "FROM Subscription s JOIN s.member m " +
+           "WHERE s.status = 'ACTIVE' AND s.endDate <= :cutoff " +
+           "AND (s.endDate > :afterEndDate OR (s.endDate = :afterEndDate AND s.id > :afterId)) " +
+           "ORDER BY s.endDate, s.id")
+    List<DueSubscriptionView> findDueChunk(@Param("cutoff") LocalDateTime cutoff,
+                                           @Param("afterEndDate") LocalDateTime afterEndDate,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    /**
+     * Expire due subscriptions in one statement. Rows renewed, cancelled or expired since they
+     * were scanned no longer match and are left alone, so re-running a chunk is harmless.
+     */
+    @Modifying
+    @Query("UPDATE Subscription s SET s.status = 'EXPIRED', s.activeMemberId = NULL, " +
+           "s.updatedAt = :now, s.version = s.version + 1 " +
+           "WHERE s.id IN :ids AND s.status = 'ACTIVE' AND s.endDate <= :cutoff AND s.autoRenew = false")
+    int expireDue(@Param("ids") Collection<Long> ids,
+                  @Param("cutoff") LocalDateTime cutoff,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Load due auto-renewing subscriptions with their plans for renewal
+     */
+    @Query("SELECT s FROM Subscription s JOIN FETCH s.plan JOIN FETCH s.tier " +
+           "WHERE s.id IN :ids AND s.status = 'ACTIVE' AND s.endDate <= :cutoff AND s.autoRenew = true")
+    List<Subscription> findDueRenewals(@Param("ids") Collection<Long> ids,
+                                       @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Projection of a due subscription
+     */
+    interface DueSubscriptionView {
+        Long getId();
+
+        String getUserId();
+
+        LocalDateTime getEndDate();
+
+        Boolean getAutoRenew();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.entity.Member;
+
+/**
+ * Compiled, allocation-free eligibility check for a tier.
+ * Instances are immutable and safe to share across threads.
+ */
+@FunctionalInterface
+public interface EligibilityPredicate {
+
+    EligibilityPredicate ALWAYS = member -> true;
+
+    EligibilityPredicate NEVER = member -> false;
+
+    /**
+     * Check whether a member satisfies this predicate
+     */
+    boolean test(Member member);
+}
@@ -0,0 +1,316 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.entity.DailyOrderBuckets;
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.entity.OrderStatistics;
+import com.firstclub.membership.entity.TierEligibilityCriteria;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles a tier's eligibility criteria into a predicate tree.
+ * Criteria values and operators are parsed once here, so evaluation does no string
+ * parsing, switching on strings or boxing.
+ */
+@Slf4j
+public final class EligibilityPredicateCompiler {
+
+    private static final int LIFETIME = 0;
+
+    private EligibilityPredicateCompiler() {
+    }
+
+    /**
+     * Compile all active criteria of a tier into a single predicate (member must meet ALL of them)
+     */
+    public static EligibilityPredicate compile(MembershipTier tier) {
+        if (!tier.getIsAvailable() || !tier.getActive()) {
+            return EligibilityPredicate.NEVER;
+        }
+
+        List<EligibilityPredicate> predicates = new ArrayList<>();
+        for (TierEligibilityCriteria criterion : tier.getEligibilityCriteria()) {
+            if (!criterion.getIsActive()) {
+                continue;
+            }
+            EligibilityPredicate predicate = compile(criterion);
+            if (predicate == EligibilityPredicate.NEVER) {
+                return EligibilityPredicate.NEVER;
+            }
+            predicates.add(predicate);
+        }
+
+        // No criteria means everyone is eligible
+        if (predicates.isEmpty()) {
+            return EligibilityPredicate.ALWAYS;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        return new AllOf(predicates.toArray(new EligibilityPredicate[0]));
+    }
+
+    /**
+     * Compile a single criterion; invalid criteria compile to a predicate that never matches
+     */
+    public static EligibilityPredicate compile(TierEligibilityCriteria criterion) {
+        Comparison comparison = Comparison.parse(criterion.getComparisonOperator());
+        if (comparison == null || criterion.getCriteriaType() == null) {
+            return invalid(criterion);
+        }
+        int windowDays = windowDays(criterion);
+
+        switch (criterion.getCriteriaType()) {
+            case "ORDER_COUNT": {
+                Double threshold = criterion.getNumericValue();
+                if (threshold == null || comparison == Comparison.IN) return invalid(criterion);
+                return new OrderCountPredicate(windowDays, comparison, threshold);
+            }
+            case "ORDER_VALUE": {
+                BigDecimal threshold = parseDecimal(criterion.getCriteriaValue());
+                if (threshold == null || comparison == Comparison.IN) return invalid(criterion);
+                return new OrderValuePredicate(windowDays, comparison, threshold);
+            }
+            case "COHORT":
+                if (comparison == Comparison.EQ) {
+                    return new CohortPredicate(Set.of(criterion.getCriteriaValue()));
+                }
+                if (comparison == Comparison.IN) {
+                    return new CohortPredicate(Arrays.stream(criterion.getCriteriaValue().split(","))
+                            .map(String::trim)
+                            .filter(s -> !s.isEmpty())
+                            .collect(Collectors.toUnmodifiableSet()));
+                }
+                return invalid(criterion);
+            default:
+                return invalid(criterion);
+        }
+    }
+
+    /**
+     * Check whether satisfying {@code stronger} guarantees satisfying {@code weaker}.
+     * Conservative: returns false whenever implication cannot be proven from the criteria alone.
+     */
+    public static boolean implies(EligibilityPredicate stronger, EligibilityPredicate weaker) {
+        if (weaker == EligibilityPredicate.ALWAYS || stronger == EligibilityPredicate.NEVER || stronger == weaker) {
+            return true;
+        }
+        if (weaker instanceof AllOf) {
+            for (EligibilityPredicate conjunct : ((AllOf) weaker).predicates) {
+                if (!implies(stronger, conjunct)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (stronger instanceof AllOf) {
+            for (EligibilityPredicate conjunct : ((AllOf) stronger).predicates) {
+                if (implies(conjunct, weaker)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (stronger instanceof OrderCountPredicate && weaker instanceof OrderCountPredicate) {
+            OrderCountPredicate s = (OrderCountPredicate) stronger;
+            OrderCountPredicate w = (OrderCountPredicate) weaker;
+            return windowImplies(s.windowDays, w.windowDays)
+                    && lowerBoundImplies(s.comparison, Double.compare(s.threshold, w.threshold), w.comparison);
+        }
+        if (stronger instanceof OrderValuePredicate && weaker instanceof OrderValuePredicate) {
+            OrderValuePredicate s = (OrderValuePredicate) stronger;
+            OrderValuePredicate w = (OrderValuePredicate) weaker;
+            return windowImplies(s.windowDays, w.windowDays)
+                    && lowerBoundImplies(s.comparison, s.threshold.compareTo(w.threshold), w.comparison);
+        }
+        if (stronger instanceof CohortPredicate && weaker instanceof CohortPredicate) {
+            return ((CohortPredicate) weaker).cohorts.containsAll(((CohortPredicate) stronger).cohorts);
+        }
+        return false;
+    }
+
+    /**
+     * Totals over a window never exceed totals over a longer window (or lifetime), so a minimum
+     * over the shorter window implies the same minimum over the longer one
+     */
+    private static boolean windowImplies(int strongerDays, int weakerDays) {
+        return weakerDays == LIFETIME || (strongerDays != LIFETIME && strongerDays <= weakerDays);
+    }
+
+    /**
+     * Evaluation window of a criterion in days, or {@link #LIFETIME} when it has none
+     */
+    private static int windowDays(TierEligibilityCriteria criterion) {
+        Integer days = criterion.getEvaluationPeriodDays();
+        if (days == null || days <= 0) {
+            return LIFETIME;
+        }
+        if (days > DailyOrderBuckets.DAYS) {
+            log.warn("Criterion {} evaluates {} days but order history covers {}; using {} days",
+                    criterion.getId(), days, DailyOrderBuckets.DAYS, DailyOrderBuckets.DAYS);
+            return DailyOrderBuckets.DAYS;
+        }
+        return days;
+    }
+
+    /**
+     * Check whether "x [strongerOp] a" implies "x [weakerOp] b" for lower bounds, given sign(a - b)
+     */
+    private static boolean lowerBoundImplies(Comparison strongerOp, int thresholdCmp, Comparison weakerOp) {
+        boolean strongerIsLowerBound = strongerOp == Comparison.GT || strongerOp == Comparison.GTE;
+        if (!strongerIsLowerBound) {
+            return false;
+        }
+        if (weakerOp == Comparison.GTE) {
+            return thresholdCmp >= 0;
+        }
+        if (weakerOp == Comparison.GT) {
+            return thresholdCmp > 0 || (thresholdCmp == 0 && strongerOp == Comparison.GT);
+        }
+        return false;
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        if (value == null) return null;
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long toExactCents(BigDecimal value) {
+        try {
+            return value.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static EligibilityPredicate invalid(TierEligibilityCriteria criterion) {
+        log.warn("Criterion {} ({} {} {}) cannot be evaluated and will never match",
+                criterion.getId(), criterion.getCriteriaType(),
+                criterion.getComparisonOperator(), criterion.getCriteriaValue());
+        return EligibilityPredicate.NEVER;
+    }
+
+    /**
+     * Comparison operators, applied to the sign of a compare() result
+     */
+    enum Comparison {
+        GT, GTE, LT, LTE, EQ, IN;
+
+        static Comparison parse(String operator) {
+            if (operator == null) return null;
+            try {
+                return valueOf(operator);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        boolean matches(int cmp) {
+            switch (this) {
+                case GT: return cmp > 0;
+                case GTE: return cmp >= 0;
+                case LT: return cmp < 0;
+                case LTE: return cmp <= 0;
+                case EQ: return cmp == 0;
+                default: return false;
+            }
+        }
+    }
+
+    private static final class AllOf implements EligibilityPredicate {
+        private final EligibilityPredicate[] predicates;
+
+        AllOf(EligibilityPredicate[] predicates) {
+            this.predicates = predicates;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            for (EligibilityPredicate predicate : predicates) {
+                if (!predicate.test(member)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class OrderCountPredicate implements EligibilityPredicate {
+        private final int windowDays;
+        private final Comparison comparison;
+        private final double threshold;
+
+        OrderCountPredicate(int windowDays, Comparison comparison, double threshold) {
+            this.windowDays = windowDays;
+            this.comparison = comparison;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            OrderStatistics stats = member.getOrderStatistics();
+            if (stats == null) return false;
+            if (windowDays != LIFETIME) {
+                int count = member.getRecentOrders().orderCount(windowDays, DailyOrderBuckets.currentEpochDay());
+                return comparison.matches(Double.compare(count, threshold));
+            }
+            Integer count = stats.getTotalOrderCount();
+            return count != null && comparison.matches(Double.compare(count.intValue(), threshold));
+        }
+    }
+
+    private static final class OrderValuePredicate implements EligibilityPredicate {
+        private final int windowDays;
+        private final Comparison comparison;
+        private final BigDecimal threshold;
+        // Threshold in cents when it has no sub-cent part, so window sums compare without allocating
+        private final Long thresholdCents;
+
+        OrderValuePredicate(int windowDays, Comparison comparison, BigDecimal threshold) {
+            this.windowDays = windowDays;
+            this.comparison = comparison;
+            this.threshold = threshold;
+            this.thresholdCents = toExactCents(threshold);
+        }
+
+        @Override
+        public boolean test(Member member) {
+            OrderStatistics stats = member.getOrderStatistics();
+            if (stats == null) return false;
+            if (windowDays != LIFETIME && thresholdCents != null) {
+                long cents = member.getRecentOrders().orderValueCents(windowDays, DailyOrderBuckets.currentEpochDay());
+                return comparison.matches(Long.compare(cents, thresholdCents));
+            }
+            BigDecimal value = windowDays != LIFETIME
+                    ? member.getRecentOrders().orderValue(windowDays, DailyOrderBuckets.currentEpochDay())
+                    : stats.getTotalOrderValue();
+            // compareTo on the pre-parsed threshold is exact and does not allocate for compact values
+            return value != null && comparison.matches(value.compareTo(threshold));
+        }
+    }
+
+    private static final class CohortPredicate implements EligibilityPredicate {
+        private final Set<String> cohorts;
+
+        CohortPredicate(Set<String> cohorts) {
+            this.cohorts = cohorts;
+        }
+
+        @Override
+        public boolean test(Member member) {
+            String cohort = member.getCohort();
+            return cohort != null && cohorts.contains(cohort);
+        }
+    }
+}
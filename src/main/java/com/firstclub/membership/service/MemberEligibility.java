@@ -0,0 +1,19 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipTier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk eligibility evaluation for one member
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberEligibility {
+
+    private final Member member;
+    private final List<MembershipTier> eligibleTiers;
+}
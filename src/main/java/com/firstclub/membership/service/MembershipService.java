@@ -1,11 +1,15 @@
 package com.firstclub.membership.service;
 
 import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.OrderRecordRequest;
 import com.firstclub.membership.dto.request.SubscribeRequest;
 import com.firstclub.membership.dto.request.TierChangeRequest;
 import com.firstclub.membership.dto.response.*;
+import com.firstclub.membership.enums.MembershipTierType;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Main service interface for membership operations
@@ -66,4 +70,21 @@ public interface MembershipService {
      * Record an order for a member (updates statistics)
      */
     void recordOrder(String userId, java.math.BigDecimal orderValue);
-} 
\ No newline at end of file
+
+    /**
+     * Record a stream of orders idempotently by orderId, applied in chunks, reporting totals and the records not accepted
+     */
+    OrderBatchResultDto recordOrders(Iterator<OrderRecordRequest> records);
+
+    /**
+     * Import a stream of new members in chunks, reporting totals, throughput and the records not imported
+     */
+    MemberImportResultDto importMembers(Iterator<CreateMemberRequest> records);
+
+    /**
+     * Evaluate tier eligibility across the member base (optionally one cohort and one target tier),
+     * handing results to the consumer chunk by chunk
+     */
+    void streamTierEligibility(MembershipTierType tierType, String cohort, Integer chunkSize,
+                               Consumer<List<MemberEligibilityDto>> chunkConsumer);
+}
@@ -0,0 +1,36 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.entity.MembershipPlan;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+
+import java.util.List;
+
+/**
+ * In-memory plans and tiers for the request paths, so subscription writes resolve them
+ * without queries or connections of their own.
+ * Returned entities are detached and shared; they must be treated as read-only.
+ */
+public interface ReferenceDataRegistry {
+
+    /**
+     * Get a plan by type, or throw if it does not exist
+     */
+    MembershipPlan getPlan(MembershipPlanType planType);
+
+    /**
+     * Get a tier by type from the current tier catalog, or throw if it does not exist
+     */
+    MembershipTier getTier(MembershipTierType tierType);
+
+    /**
+     * Available plans ordered by duration
+     */
+    List<MembershipPlan> getAvailablePlans();
+
+    /**
+     * Reload plans from the database
+     */
+    void refreshPlans();
+}
@@ -0,0 +1,189 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.entity.Benefit;
+import com.firstclub.membership.entity.Member;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.entity.TierEligibilityCriteria;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Immutable, versioned snapshot of all tiers with their eligibility criteria and benefits.
+ * Tiers held here are detached and fully initialized; they must be treated as read-only.
+ */
+@Getter
+public final class TierCatalog {
+
+    // Bounds the predicates kept for tier revisions this snapshot does not hold; least recently used go first
+    private static final int MAX_OFF_SNAPSHOT_PREDICATES = 64;
+
+    private final long version;
+    private final long fingerprint;
+    private final Instant builtAt;
+    private final List<MembershipTier> tiers;
+    private final List<MembershipTier> availableTiers;
+    private final Map<Long, MembershipTier> tiersById;
+    private final Map<MembershipTierType, MembershipTier> tiersByType;
+    private final Map<Long, EligibilityPredicate> predicatesByTierId;
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, PredicateRevision> predicateRevisionsByTierId;
+    @Getter(AccessLevel.NONE)
+    private final EligibilityPredicate[] availablePredicates;
+    @Getter(AccessLevel.NONE)
+    private final long[] impliedLowerTiers;
+    @Getter(AccessLevel.NONE)
+    private final Cache<PredicateRevision, EligibilityPredicate> offSnapshotPredicates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_OFF_SNAPSHOT_PREDICATES)
+            .build();
+
+    public TierCatalog(long version, Instant builtAt, List<MembershipTier> tiers) {
+        List<MembershipTier> sorted = new ArrayList<>(tiers);
+        sorted.sort(Comparator.comparing(MembershipTier::getLevel));
+
+        Map<Long, MembershipTier> byId = new HashMap<>();
+        Map<MembershipTierType, MembershipTier> byType = new EnumMap<>(MembershipTierType.class);
+        Map<Long, EligibilityPredicate> predicates = new HashMap<>();
+        Map<Long, PredicateRevision> predicateRevisions = new HashMap<>();
+        List<MembershipTier> available = new ArrayList<>();
+        for (MembershipTier tier : sorted) {
+            byId.put(tier.getId(), tier);
+            byType.put(tier.getTierType(), tier);
+            predicates.put(tier.getId(), EligibilityPredicateCompiler.compile(tier));
+            predicateRevisions.put(tier.getId(), PredicateRevision.of(tier));
+            if (tier.getIsAvailable() && tier.getActive()) {
+                available.add(tier);
+            }
+        }
+
+        this.version = version;
+        this.fingerprint = fingerprintOf(sorted);
+        this.builtAt = builtAt;
+        this.tiers = List.copyOf(sorted);
+        this.availableTiers = List.copyOf(available);
+        this.tiersById = Collections.unmodifiableMap(byId);
+        this.tiersByType = Collections.unmodifiableMap(byType);
+        this.predicatesByTierId = Collections.unmodifiableMap(predicates);
+        this.predicateRevisionsByTierId = Collections.unmodifiableMap(predicateRevisions);
+        this.availablePredicates = available.stream().map(t -> predicates.get(t.getId())).toArray(EligibilityPredicate[]::new);
+        this.impliedLowerTiers = impliedLowerTiers(availablePredicates);
+    }
+
+    /**
+     * Empty catalog used before the first build
+     */
+    public static TierCatalog empty() {
+        return new TierCatalog(0, Instant.EPOCH, List.of());
+    }
+
+    public Optional<MembershipTier> findById(Long tierId) {
+        return Optional.ofNullable(tiersById.get(tierId));
+    }
+
+    public Optional<MembershipTier> findByType(MembershipTierType tierType) {
+        return Optional.ofNullable(tiersByType.get(tierType));
+    }
+
+    /**
+     * Get the compiled eligibility predicate for a tier.
+     * Tiers that are not part of this snapshot (or whose criteria differ from it), e.g. a revision
+     * committed after the snapshot was built, are compiled once per revision and kept with the
+     * snapshot until it is replaced or they are evicted.
+     */
+    public EligibilityPredicate predicateFor(MembershipTier tier) {
+        MembershipTier cached = tiersById.get(tier.getId());
+        if (cached == tier) {
+            return predicatesByTierId.get(tier.getId());
+        }
+
+        PredicateRevision revision = PredicateRevision.of(tier);
+        if (cached != null && revision.equals(predicateRevisionsByTierId.get(tier.getId()))) {
+            return predicatesByTierId.get(tier.getId());
+        }
+
+        EligibilityPredicate predicate = offSnapshotPredicates.getIfPresent(revision);
+        if (predicate == null) {
+            predicate = EligibilityPredicateCompiler.compile(tier);
+            offSnapshotPredicates.put(revision, predicate);
+        }
+        return predicate;
+    }
+
+    /**
+     * Find all available tiers a member is eligible for, in level order, in a single pass.
+     * Tiers are evaluated from the highest level down; once a tier matches, every lower tier
+     * whose criteria it provably implies is accepted without being evaluated.
+     */
+    public List<MembershipTier> eligibleTiers(Member member) {
+        List<MembershipTier> eligible = new ArrayList<>(availableTiers.size());
+        long impliedEligible = 0;
+        for (int i = availablePredicates.length - 1; i >= 0; i--) {
+            boolean implied = i < Long.SIZE && (impliedEligible & (1L << i)) != 0;
+            if (implied || availablePredicates[i].test(member)) {
+                eligible.add(availableTiers.get(i));
+                impliedEligible |= impliedLowerTiers[i];
+            }
+        }
+        Collections.reverse(eligible);
+        return eligible;
+    }
+
+    /**
+     * For each tier, a bit mask of the lower tiers (first 64 only) its criteria imply
+     */
+    private static long[] impliedLowerTiers(EligibilityPredicate[] predicates) {
+        long[] masks = new long[predicates.length];
+        for (int i = 0; i < predicates.length; i++) {
+            for (int j = 0; j < Math.min(i, Long.SIZE); j++) {
+                if (EligibilityPredicateCompiler.implies(predicates[i], predicates[j])) {
+                    masks[i] |= 1L << j;
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Compute a content fingerprint from ids and @Version values of tiers, criteria and benefits
+     */
+    public static long fingerprintOf(Collection<MembershipTier> tiers) {
+        long hash = 17;
+        for (MembershipTier tier : tiers) {
+            hash = 31 * hash + rowHash(tier.getId(), tier.getVersion());
+            long criteriaHash = 0;
+            for (TierEligibilityCriteria criterion : tier.getEligibilityCriteria()) {
+                criteriaHash += rowHash(criterion.getId(), criterion.getVersion());
+            }
+            long benefitHash = 0;
+            for (Benefit benefit : tier.getBenefits()) {
+                benefitHash += rowHash(benefit.getId(), benefit.getVersion());
+            }
+            hash = 31 * (31 * hash + criteriaHash) + benefitHash;
+        }
+        return hash;
+    }
+
+    /**
+     * Everything a compiled predicate depends on: the tier row and each criterion row, by @Version.
+     * Benefits do not affect eligibility, so benefit edits keep the snapshot's predicate.
+     */
+    private record PredicateRevision(Long tierId, Long tierVersion, Map<Long, Long> criteriaVersions) {
+
+        static PredicateRevision of(MembershipTier tier) {
+            Map<Long, Long> criteriaVersions = new HashMap<>();
+            for (TierEligibilityCriteria criterion : tier.getEligibilityCriteria()) {
+                criteriaVersions.put(criterion.getId(), criterion.getVersion());
+            }
+            return new PredicateRevision(tier.getId(), tier.getVersion(), criteriaVersions);
+        }
+    }
+
+    private static long rowHash(Long id, Long version) {
+        return 1_000_003L * Objects.hashCode(id) + Objects.hashCode(version);
+    }
+}
@@ -0,0 +1,22 @@
+package com.firstclub.membership.service;
+
+/**
+ * Holds the in-memory tier catalog snapshot and swaps it when tier data changes
+ */
+public interface TierCatalogService {
+
+    /**
+     * Get the current catalog snapshot (no database access unless the snapshot is stale)
+     */
+    TierCatalog getCatalog();
+
+    /**
+     * Reload tiers from the database and publish a new snapshot if anything changed
+     */
+    TierCatalog refresh();
+
+    /**
+     * Mark the current snapshot as stale so the next read rebuilds it
+     */
+    void invalidate();
+}
@@ -4,6 +4,7 @@ import com.firstclub.membership.entity.Member;
 import com.firstclub.membership.entity.MembershipTier;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Engine for determining tier eligibility based on configurable criteria
@@ -19,4 +20,10 @@ public interface TierEligibilityEngine {
      * Check if a member is eligible for a specific tier
      */
     boolean isEligibleForTier(Member member, MembershipTier tier);
-} 
\ No newline at end of file
+
+    /**
+     * Evaluate eligibility for every member (optionally within a cohort) in keyset-paginated chunks.
+     * Each evaluated chunk is passed to the consumer after its transaction has ended.
+     */
+    void evaluateAllMembers(String cohort, int chunkSize, Consumer<List<MemberEligibility>> chunkConsumer);
+}
@@ -0,0 +1,170 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.response.MemberImportFailureDto;
+import com.firstclub.membership.entity.PooledSequenceGenerator;
+import com.firstclub.membership.enums.MemberImportStatus;
+import com.firstclub.membership.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Imports batches of new members with per-record results.
+ * Each batch runs in one transaction: records are validated, de-duplicated by userId against
+ * the batch itself and existing members in one query, then written as one JDBC batch of member
+ * rows and one of their order statistics. Rows skip the entity layer, which would double the
+ * cost per row; their ids are reserved from the entity sequences in the same blocks the pooled
+ * optimizer uses, so they never collide with ids Hibernate hands out. A batch that loses a race
+ * on a userId to a concurrent registration is retried, and the retry reports it as a duplicate.
+ */
+@Component
+@Slf4j
+public class MemberBatchImporter {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String MEMBER_SEQUENCE = "\"member_seq\"";
+    private static final String ORDER_STATISTICS_SEQUENCE = "\"order_statistics_seq\"";
+
+    private static final String INSERT_MEMBER = "INSERT INTO \"members\" (\"id\", \"created_at\", \"updated_at\", "
+            + "\"version\", \"active\", \"user_id\", \"email\", \"first_name\", \"last_name\", \"phone_number\", "
+            + "\"cohort\", \"total_lifetime_value\") VALUES (?, ?, ?, 0, TRUE, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_ORDER_STATISTICS = "INSERT INTO \"order_statistics\" (\"id\", \"created_at\", "
+            + "\"updated_at\", \"version\", \"active\", \"member_id\", \"total_order_count\", \"total_order_value\", "
+            + "\"average_order_value\", \"last_updated\") VALUES (?, ?, ?, 0, TRUE, ?, 0, 0, 0, ?)";
+
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final TransactionTemplate batchTransaction;
+    private final SequenceSupport sequenceSupport;
+    private final int allocationSize;
+
+    public MemberBatchImporter(MemberRepository memberRepository,
+                               JdbcTemplate jdbcTemplate,
+                               Validator validator,
+                               PlatformTransactionManager transactionManager,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE_SETTING + ":50}") int allocationSize) {
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.validator = validator;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        this.allocationSize = allocationSize;
+    }
+
+    /**
+     * Import a batch of members
+     *
+     * @param firstRow row number of the first record in the whole import, used in failures
+     * @return the records that were not imported, in the order submitted
+     */
+    public List<MemberImportFailureDto> importBatch(List<CreateMemberRequest> records, long firstRow) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return batchTransaction.execute(status -> apply(records, firstRow));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Member import batch of {} records conflicted with a concurrent registration, retrying (attempt {})",
+                        records.size(), attempt + 1);
+            }
+        }
+    }
+
+    private List<MemberImportFailureDto> apply(List<CreateMemberRequest> records, long firstRow) {
+        List<MemberImportFailureDto> failures = new ArrayList<>();
+
+        // Validate and drop repeats of a userId within the batch (first occurrence wins)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            CreateMemberRequest record = records.get(i);
+            Set<ConstraintViolation<CreateMemberRequest>> violations = validator.validate(record);
+            if (!violations.isEmpty()) {
+                failures.add(failure(firstRow + i, record, MemberImportStatus.REJECTED, violations.iterator().next().getMessage()));
+            } else if (candidates.putIfAbsent(record.getUserId(), i) != null) {
+                failures.add(failure(firstRow + i, record, MemberImportStatus.DUPLICATE, "Duplicate user ID in batch"));
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existing = memberRepository.findExistingUserIds(candidates.keySet());
+            LocalDateTime now = LocalDateTime.now();
+            List<CreateMemberRequest> newMembers = new ArrayList<>(candidates.size());
+            for (int i : candidates.values()) {
+                CreateMemberRequest record = records.get(i);
+                if (existing.contains(record.getUserId())) {
+                    failures.add(failure(firstRow + i, record, MemberImportStatus.DUPLICATE,
+                            "Member already exists with userId: " + record.getUserId()));
+                } else {
+                    newMembers.add(record);
+                }
+            }
+
+            if (!newMembers.isEmpty()) {
+                long[] memberIds = reserveIds(MEMBER_SEQUENCE, newMembers.size());
+                long[] statisticsIds = reserveIds(ORDER_STATISTICS_SEQUENCE, newMembers.size());
+                List<Object[]> memberRows = new ArrayList<>(newMembers.size());
+                List<Object[]> statisticsRows = new ArrayList<>(newMembers.size());
+                for (int i = 0; i < newMembers.size(); i++) {
+                    CreateMemberRequest record = newMembers.get(i);
+                    memberRows.add(new Object[] {memberIds[i], now, now, record.getUserId(), record.getEmail(),
+                            record.getFirstName(), record.getLastName(), record.getPhoneNumber(), record.getCohort()});
+                    statisticsRows.add(new Object[] {statisticsIds[i], now, now, memberIds[i], now});
+                }
+                jdbcTemplate.batchUpdate(INSERT_MEMBER, memberRows);
+                jdbcTemplate.batchUpdate(INSERT_ORDER_STATISTICS, statisticsRows);
+            }
+            log.debug("Imported {} members from a batch of {}", newMembers.size(), records.size());
+        }
+
+        // Rejections and in-batch repeats were found before existing members; report in row order
+        failures.sort(Comparator.comparingLong(MemberImportFailureDto::getRow));
+        return failures;
+    }
+
+    /**
+     * Reserve ids the way the pooled optimizer does: each sequence value is the top of a block of
+     * {@code allocationSize} ids (the very first value, 1, is a block of one)
+     */
+    private long[] reserveIds(String sequence, int count) {
+        String nextValue = sequenceSupport.getSequenceNextValString(sequence);
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            Long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+            for (long id = Math.max(1, hi - allocationSize + 1); id <= hi && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private static MemberImportFailureDto failure(long row, CreateMemberRequest record, MemberImportStatus status, String message) {
+        return MemberImportFailureDto.builder()
+                .row(row)
+                .userId(record.getUserId())
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
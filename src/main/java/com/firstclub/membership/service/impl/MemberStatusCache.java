@@ -0,0 +1,145 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.dto.response.MembershipStatusDto;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of member status DTOs keyed by userId.
+ * Concurrent misses for the same key are collapsed into a single load. Writers invalidate
+ * after commit; a per-key generation stamp discards loads that raced with an invalidation,
+ * so a value read before a commit is never left in the cache after it.
+ * Cached DTOs are shared and must not be modified.
+ */
+@Component
+public class MemberStatusCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<String, MembershipStatusDto> cache;
+    private final ConcurrentMap<String, CompletableFuture<MembershipStatusDto>> loads = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MemberStatusCache(PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${membership.status-cache.maximum-size:100000}") long maximumSize,
+                             @Value("${membership.status-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "memberStatus");
+    }
+
+    /**
+     * Get a member's status, loading it in a read-only transaction on a miss
+     */
+    public MembershipStatusDto get(String userId, Function<String, MembershipStatusDto> loader) {
+        MembershipStatusDto cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Collapse concurrent misses onto one load. The load runs outside the cache's internal
+        // monitors, which would otherwise pin a virtual thread's carrier for the whole query.
+        CompletableFuture<MembershipStatusDto> load = new CompletableFuture<>();
+        CompletableFuture<MembershipStatusDto> inFlight = loads.putIfAbsent(userId, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        try {
+            MembershipStatusDto status = readOnlyTransaction.execute(tx -> loader.apply(userId));
+            cache.put(userId, status);
+            // An invalidation raced with this load: the value may predate the write, so drop it
+            if (generations.get(stripe) != generation) {
+                cache.invalidate(userId);
+            }
+            load.complete(status);
+            return status;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(userId, load);
+        }
+    }
+
+    /**
+     * Invalidate a member's cached status once the current transaction commits
+     */
+    public void invalidateAfterCommit(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * Invalidate several members' cached statuses once the current transaction commits
+     */
+    public void invalidateAfterCommit(Collection<String> userIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.forEach(MemberStatusCache.this::invalidate);
+                }
+            });
+        } else {
+            userIds.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Invalidate a member's cached status immediately
+     */
+    public void invalidate(String userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private static MembershipStatusDto await(CompletableFuture<MembershipStatusDto> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static int stripe(String userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+}
@@ -0,0 +1,99 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.Subscription;
+import com.firstclub.membership.util.MemberLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a member's write in its own READ_COMMITTED transaction, holding the member lock across
+ * the commit so writes through this instance apply one after another. Conflicts with writers
+ * elsewhere (optimistic version checks, row lock failures, the one-active-subscription key)
+ * roll back and are retried with a short jittered backoff; the retry re-reads committed state
+ * and normally ends in an ordinary business rejection.
+ */
+@Component
+@Slf4j
+public class MemberWriteExecutor {
+
+    private final MemberLockManager memberLocks;
+    private final TransactionTemplate writeTransaction;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Counter retries;
+
+    public MemberWriteExecutor(MemberLockManager memberLocks,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${membership.writes.retry.max-attempts:3}") int maxAttempts,
+                               @Value("${membership.writes.retry.backoff-ms:10}") long backoffMs) {
+        this.memberLocks = memberLocks;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+        this.retries = Counter.builder("membership.writes.retries")
+                .description("Member writes retried after a conflict with a concurrent writer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a write for a member, retrying it on conflicts
+     */
+    public <T> T execute(String userId, Supplier<T> write) {
+        // Inside a caller's transaction a conflict has already marked it rollback-only
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : maxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return memberLocks.withWriteLock(userId, () -> writeTransaction.execute(status -> write.get()));
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= attempts || !isRetryable(e)) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("Write for userId: {} conflicted with a concurrent writer, retrying (attempt {})",
+                        userId, attempt + 1);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof ConcurrencyFailureException) {
+            return true;
+        }
+        // Other integrity violations are bad data and would fail again
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(Subscription.ACTIVE_MEMBER_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void backoff(int attempt, RuntimeException conflict) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt) + 1);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
@@ -1,62 +1,94 @@
 package com.firstclub.membership.service.impl;
 
 import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.OrderRecordRequest;
 import com.firstclub.membership.dto.request.SubscribeRequest;
 import com.firstclub.membership.dto.request.TierChangeRequest;
 import com.firstclub.membership.dto.response.*;
 import com.firstclub.membership.entity.*;
+import com.firstclub.membership.enums.MemberImportStatus;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.enums.OrderRecordStatus;
 import com.firstclub.membership.enums.SubscriptionStatus;
-import com.firstclub.membership.exception.MembershipException;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.RejectedException;
 import com.firstclub.membership.repository.*;
 import com.firstclub.membership.service.MembershipService;
+import com.firstclub.membership.service.ReferenceDataRegistry;
+import com.firstclub.membership.service.TierCatalogService;
 import com.firstclub.membership.service.TierEligibilityEngine;
+import com.firstclub.membership.util.MemberLockManager;
 import com.firstclub.membership.util.MembershipMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of membership service with thread-safe operations
  */
 @Service
+@Timed(value = "membership.service", description = "Membership service calls")
 @RequiredArgsConstructor
 @Slf4j
 public class MembershipServiceImpl implements MembershipService {
 
     private final MemberRepository memberRepository;
-    private final MembershipPlanRepository planRepository;
-    private final MembershipTierRepository tierRepository;
     private final SubscriptionRepository subscriptionRepository;
-    private final OrderStatisticsRepository orderStatisticsRepository;
     private final TierEligibilityEngine tierEligibilityEngine;
+    private final TierCatalogService tierCatalogService;
     private final MembershipMapper mapper;
-
-    @Qualifier("membershipTaskExecutor")
-    private final TaskExecutor taskExecutor;
+    private final OrderStatisticsUpdater orderStatisticsUpdater;
+    private final WriteBehindOrderRecorder writeBehindOrderRecorder;
+    private final OrderBatchIngestor orderBatchIngestor;
+    private final MemberBatchImporter memberBatchImporter;
+    private final MemberStatusCache memberStatusCache;
+    private final ReferenceDataRegistry referenceData;
+    private final MemberWriteExecutor memberWrites;
     
-    // Thread-safe locks for critical sections
-    private final ReentrantReadWriteLock memberLock = new ReentrantReadWriteLock();
+    // Per-member locks for critical sections
+    private final MemberLockManager memberLocks;
+
+    private static final int MAX_BULK_CHUNK_SIZE = 5000;
+
+    @Value("${membership.eligibility.bulk-chunk-size:500}")
+    private int bulkChunkSize;
+
+    @Value("${membership.orders.batch.chunk-size:1000}")
+    private int orderBatchChunkSize;
+
+    @Value("${membership.orders.batch.max-reported-failures:1000}")
+    private int maxReportedOrderFailures;
+
+    @Value("${membership.members.import.chunk-size:1000}")
+    private int memberImportChunkSize;
+
+    @Value("${membership.members.import.max-reported-failures:1000}")
+    private int maxReportedImportFailures;
 
     @Override
     @Transactional
     public MembershipStatusDto createMember(CreateMemberRequest request) {
-        log.info("Creating new member with userId: {}", request.getUserId());
+        log.debug("Creating new member with userId: {}", request.getUserId());
         
         // Check if member already exists
         if (memberRepository.existsByUserId(request.getUserId())) {
-            throw new MembershipException("Member already exists with userId: " + request.getUserId());
+            throw new RejectedException(ErrorCode.MEMBER_ALREADY_EXISTS, "Member already exists with userId: " + request.getUserId());
         }
         
         // Create member
@@ -73,7 +105,6 @@ public class MembershipServiceImpl implements MembershipService {
         OrderStatistics stats = OrderStatistics.builder()
                 .member(member)
                 .lastUpdated(LocalDateTime.now())
-                .monthlyStatsResetDate(LocalDateTime.now())
                 .build();
         
         member.setOrderStatistics(stats);
@@ -83,67 +114,46 @@ public class MembershipServiceImpl implements MembershipService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MembershipPlanDto> getAllPlans() {
-        return planRepository.findAllAvailable().stream()
+        return referenceData.getAvailablePlans().stream()
                 .map(mapper::toPlanDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<MembershipTierDto> getAllTiers() {
-        return tierRepository.findAllWithBenefits().stream()
+        return tierCatalogService.getCatalog().getAvailableTiers().stream()
                 .map(mapper::toTierDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public SubscriptionDto subscribe(SubscribeRequest request) {
-        log.info("Processing subscription for userId: {}", request.getUserId());
+        log.debug("Processing subscription for userId: {}", request.getUserId());
         
-        memberLock.writeLock().lock();
-        try {
-            // Kick off independent, read-only lookups for plan and tier on a bounded executor
-            CompletableFuture<MembershipPlan> planFuture =
-                    CompletableFuture.supplyAsync(() ->
-                            planRepository.findByPlanType(request.getPlanType())
-                                    .orElseThrow(() -> new MembershipException("Plan not found")),
-                            taskExecutor);
+        // READ_COMMITTED: the unique active-member key rejects a concurrent second subscription
+        return memberWrites.execute(request.getUserId(), () -> {
+            // Plan and tier are in-memory reference data, so this transaction's connection is the only one used
+            MembershipPlan plan = referenceData.getPlan(request.getPlanType());
+            MembershipTier tier = referenceData.getTier(request.getTierType());
 
-            CompletableFuture<MembershipTier> tierFuture =
-                    CompletableFuture.supplyAsync(() ->
-                            tierRepository.findByTierTypeWithAllAssociations(request.getTierType())
-                                    .orElseThrow(() -> new MembershipException("Tier not found")),
-                            taskExecutor);
-
-            // Load member in the current thread/transaction to keep lock scope and entity manager context
             Member member = memberRepository.findByUserId(request.getUserId())
-                    .orElseThrow(() -> new MembershipException("Member not found"));
+                    .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
             
-            // Check for existing active subscription
-            if (member.hasActiveSubscription()) {
-                throw new MembershipException("Member already has an active subscription");
-            }
-
-            // Wait for plan and tier lookups and unwrap any MembershipException
-            MembershipPlan plan;
-            MembershipTier tier;
-            try {
-                plan = planFuture.join();
-                tier = tierFuture.join();
-            } catch (CompletionException ce) {
-                Throwable cause = ce.getCause();
-                if (cause instanceof MembershipException) {
-                    throw (MembershipException) cause;
+            // Check for existing active subscription on the active-member key, not the history
+            Optional<Subscription> current = subscriptionRepository.findMarkedActiveByMemberId(member.getId());
+            if (current.isPresent()) {
+                if (current.get().isCurrentlyActive()) {
+                    throw new RejectedException(ErrorCode.SUBSCRIPTION_ALREADY_ACTIVE, "Member already has an active subscription");
                 }
-                throw ce;
+                // Lapsed but still marked ACTIVE: release the key before inserting
+                current.get().setStatus(SubscriptionStatus.EXPIRED);
+                subscriptionRepository.flush();
             }
-            
+
             // Check tier eligibility (depends on both member and tier)
             if (!tierEligibilityEngine.isEligibleForTier(member, tier)) {
-                throw new MembershipException("Member is not eligible for the requested tier");
+                throw new RejectedException(ErrorCode.NOT_ELIGIBLE, "Member is not eligible for the requested tier");
             }
             
             // Create subscription
@@ -163,101 +173,77 @@ public class MembershipServiceImpl implements MembershipService {
                     .build();
             
             subscription = subscriptionRepository.save(subscription);
+            memberStatusCache.invalidateAfterCommit(request.getUserId());
             
-            log.info("Subscription created successfully for userId: {}", request.getUserId());
+            log.debug("Subscription created successfully for userId: {}", request.getUserId());
             return mapper.toSubscriptionDto(subscription);
-            
-        } finally {
-            memberLock.writeLock().unlock();
-        }
+        });
     }
 
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public SubscriptionDto upgradeTier(TierChangeRequest request) {
-        log.info("Processing tier upgrade for userId: {}", request.getUserId());
+        log.debug("Processing tier upgrade for userId: {}", request.getUserId());
         
         return changeTier(request, true);
     }
 
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public SubscriptionDto downgradeTier(TierChangeRequest request) {
-        log.info("Processing tier downgrade for userId: {}", request.getUserId());
+        log.debug("Processing tier downgrade for userId: {}", request.getUserId());
         
         return changeTier(request, false);
     }
 
     private SubscriptionDto changeTier(TierChangeRequest request, boolean isUpgrade) {
-        memberLock.writeLock().lock();
-        try {
-            // Kick off independent, read-only lookup for target tier on a bounded executor
-            CompletableFuture<MembershipTier> targetTierFuture =
-                    CompletableFuture.supplyAsync(() ->
-                            tierRepository.findByTierTypeWithAllAssociations(request.getTargetTierType())
-                                    .orElseThrow(() -> new MembershipException("Target tier not found")),
-                            taskExecutor);
+        // READ_COMMITTED: the subscription row lock and its version guard the update
+        return memberWrites.execute(request.getUserId(), () -> {
+            MembershipTier targetTier = referenceData.getTier(request.getTargetTierType());
 
-            // Get member with active subscription (dependent chain stays on current thread/transaction)
+            // Get member with active subscription
             Member member = memberRepository.findByUserId(request.getUserId())
-                    .orElseThrow(() -> new MembershipException("Member not found"));
+                    .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
             
             // Get active subscription with lock
             Subscription subscription = subscriptionRepository
                     .findActiveByMemberIdWithLock(member.getId())
-                    .orElseThrow(() -> new MembershipException("No active subscription found"));
-            
-            // Wait for the target tier lookup and unwrap any MembershipException
-            MembershipTier targetTier;
-            try {
-                targetTier = targetTierFuture.join();
-            } catch (CompletionException ce) {
-                Throwable cause = ce.getCause();
-                if (cause instanceof MembershipException) {
-                    throw (MembershipException) cause;
-                }
-                throw ce;
-            }
+                    .orElseThrow(() -> new RejectedException(ErrorCode.NO_ACTIVE_SUBSCRIPTION, "No active subscription found"));
             
             // Validate tier change
             if (isUpgrade && !targetTier.getTierType().isHigherThan(subscription.getTier().getTierType())) {
-                throw new MembershipException("Target tier must be higher than current tier for upgrade");
+                throw new RejectedException(ErrorCode.INVALID_TIER_CHANGE, "Target tier must be higher than current tier for upgrade");
             }
             
             if (!isUpgrade && !targetTier.getTierType().isLowerThan(subscription.getTier().getTierType())) {
-                throw new MembershipException("Target tier must be lower than current tier for downgrade");
+                throw new RejectedException(ErrorCode.INVALID_TIER_CHANGE, "Target tier must be lower than current tier for downgrade");
             }
             
             // Check eligibility for upgrade
             if (isUpgrade && !tierEligibilityEngine.isEligibleForTier(member, targetTier)) {
-                throw new MembershipException("Member is not eligible for the target tier");
+                throw new RejectedException(ErrorCode.NOT_ELIGIBLE, "Member is not eligible for the target tier");
             }
             
             // Update subscription
             subscription.setTier(targetTier);
             subscription = subscriptionRepository.save(subscription);
+            memberStatusCache.invalidateAfterCommit(request.getUserId());
             
-            log.info("Tier {} successful for userId: {}", isUpgrade ? "upgrade" : "downgrade", request.getUserId());
+            log.debug("Tier {} successful for userId: {}", isUpgrade ? "upgrade" : "downgrade", request.getUserId());
             return mapper.toSubscriptionDto(subscription);
-            
-        } finally {
-            memberLock.writeLock().unlock();
-        }
+        });
     }
 
     @Override
-    @Transactional
     public void cancelSubscription(String userId, String reason) {
-        log.info("Cancelling subscription for userId: {}", userId);
+        log.debug("Cancelling subscription for userId: {}", userId);
         
-        memberLock.writeLock().lock();
-        try {
+        // READ_COMMITTED: the subscription row lock guards the cancellation
+        memberWrites.execute(userId, () -> {
             Member member = memberRepository.findByUserId(userId)
-                    .orElseThrow(() -> new MembershipException("Member not found"));
+                    .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
             
             Subscription subscription = subscriptionRepository
                     .findActiveByMemberIdWithLock(member.getId())
-                    .orElseThrow(() -> new MembershipException("No active subscription found"));
+                    .orElseThrow(() -> new RejectedException(ErrorCode.NO_ACTIVE_SUBSCRIPTION, "No active subscription found"));
             
             subscription.setStatus(SubscriptionStatus.CANCELLED);
             subscription.setCancelledAt(LocalDateTime.now());
@@ -265,34 +251,35 @@ public class MembershipServiceImpl implements MembershipService {
             subscription.setAutoRenew(false);
             
             subscriptionRepository.save(subscription);
+            memberStatusCache.invalidateAfterCommit(userId);
             
-            log.info("Subscription cancelled for userId: {}", userId);
-            
-        } finally {
-            memberLock.writeLock().unlock();
-        }
+            log.debug("Subscription cancelled for userId: {}", userId);
+            return null;
+        });
     }
 
     @Override
-    @Transactional(readOnly = true)
     public MembershipStatusDto getMemberStatus(String userId) {
-        memberLock.readLock().lock();
-        try {
-            Member member = memberRepository.findByUserId(userId)
-                    .orElseThrow(() -> new MembershipException("Member not found"));
-            
-            return mapper.toMembershipStatusDto(member);
+        // Read-through: only misses open a transaction and touch the database
+        return memberStatusCache.get(userId, id -> memberLocks.withReadLock(id, () -> {
+            // One round trip; rows only differ by benefit, so the first carries the whole graph
+            long fromEpochDay = DailyOrderBuckets.currentEpochDay() - OrderStatistics.ROLLING_MONTH_DAYS + 1;
+            List<MemberRepository.MemberStatusView> rows = memberRepository.findStatusByUserId(id, fromEpochDay);
+            if (rows.isEmpty()) {
+                throw new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found");
+            }
             
-        } finally {
-            memberLock.readLock().unlock();
-        }
+            MemberRepository.MemberStatusView status = rows.get(0);
+            return mapper.toMembershipStatusDto(status.getMember(), status.getActiveSubscription(),
+                    status.getRecentOrderCount().intValue(), status.getRecentOrderValueCents().longValue());
+        }));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MembershipTierDto> checkTierEligibility(String userId) {
         Member member = memberRepository.findByUserId(userId)
-                .orElseThrow(() -> new MembershipException("Member not found"));
+                .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
         
         return tierEligibilityEngine.findEligibleTiers(member).stream()
                 .map(mapper::toTierDto)
@@ -302,18 +289,19 @@ public class MembershipServiceImpl implements MembershipService {
     @Override
     @Transactional(readOnly = true)
     public List<BenefitDto> getMemberBenefits(String userId) {
-        Member member = memberRepository.findByUserId(userId)
-                .orElseThrow(() -> new MembershipException("Member not found"));
+        MemberRepository.ActiveTierView activeTier = memberRepository.findActiveTierByUserId(userId)
+                .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
         
-        Subscription activeSubscription = member.getActiveSubscription();
-        if (activeSubscription == null) {
+        if (activeTier.getTierId() == null) {
             return List.of();
         }
         
-        return activeSubscription.getTier().getBenefits().stream()
-                .filter(Benefit::getIsActive)
-                .map(mapper::toBenefitDto)
-                .collect(Collectors.toList());
+        // Benefits come from the catalog snapshot, so the tier id is all that is read
+        MembershipTier tier = tierCatalogService.getCatalog()
+                .findById(activeTier.getTierId())
+                .orElseThrow(() -> new RejectedException(ErrorCode.TIER_NOT_FOUND, "Tier not found"));
+        
+        return mapper.toBenefitDtos(tier);
     }
 
     @Override
@@ -321,37 +309,120 @@ public class MembershipServiceImpl implements MembershipService {
     public void recordOrder(String userId, BigDecimal orderValue) {
         log.debug("Recording order for userId: {} with value: {}", userId, orderValue);
         
-        try {
-            Member member = memberRepository.findByUserId(userId)
-                    .orElseThrow(() -> new MembershipException("Member not found"));
-            
-            OrderStatistics stats = orderStatisticsRepository
-                    .findByMemberIdWithLock(member.getId())
-                    .orElse(OrderStatistics.builder()
-                            .member(member)
-                            .lastUpdated(LocalDateTime.now())
-                            .monthlyStatsResetDate(LocalDateTime.now())
-                            .build());
+        // Failures propagate and roll back; GlobalExceptionHandler counts rejections and logs real errors
+        
+        // Write-behind mode: validate the member, then journal and buffer the order
+        if (writeBehindOrderRecorder.isEnabled()) {
+            if (!memberRepository.existsByUserId(userId)) {
+                throw new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found");
+            }
+            if (writeBehindOrderRecorder.submit(userId, orderValue)) {
+                log.debug("Order buffered for userId: {}", userId);
+                return;
+            }
+        }
+        
+        Long memberId = memberRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new RejectedException(ErrorCode.MEMBER_NOT_FOUND, "Member not found"));
+        
+        // Atomic SQL increments: no row lock held across a read-modify-write
+        orderStatisticsUpdater.applyOrders(memberId, OrderDelta.of(userId, orderValue, LocalDateTime.now()));
+        
+        log.debug("Order recorded successfully for userId: {}", userId);
+    }
 
-            // Check if monthly reset is needed
-            if (stats.needsMonthlyReset()) {
-                stats.resetMonthlyStats();
+    @Override
+    public OrderBatchResultDto recordOrders(Iterator<OrderRecordRequest> records) {
+        long received = 0;
+        Map<OrderRecordStatus, Long> counts = new EnumMap<>(OrderRecordStatus.class);
+        List<OrderRecordResultDto> failures = new ArrayList<>();
+        List<OrderRecordRequest> chunk = new ArrayList<>(orderBatchChunkSize);
+        
+        // Each chunk is its own transaction, so a large stream never holds locks for its whole length;
+        // only failures are kept, so memory stays bounded by the chunk
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == orderBatchChunkSize || !records.hasNext()) {
+                for (OrderRecordResultDto result : orderBatchIngestor.ingest(chunk)) {
+                    counts.merge(result.getStatus(), 1L, Long::sum);
+                    if (result.getStatus() != OrderRecordStatus.ACCEPTED && failures.size() < maxReportedOrderFailures) {
+                        failures.add(result);
+                    }
+                }
+                received += chunk.size();
+                chunk.clear();
+            }
+        }
+        
+        OrderBatchResultDto response = OrderBatchResultDto.builder()
+                .received(received)
+                .accepted(counts.getOrDefault(OrderRecordStatus.ACCEPTED, 0L))
+                .duplicates(counts.getOrDefault(OrderRecordStatus.DUPLICATE, 0L))
+                .rejected(counts.getOrDefault(OrderRecordStatus.REJECTED, 0L))
+                .failures(failures)
+                .build();
+        
+        log.info("Recorded order batch: {} received, {} accepted, {} duplicates, {} rejected",
+                response.getReceived(), response.getAccepted(), response.getDuplicates(), response.getRejected());
+        return response;
+    }
+
+    @Override
+    public MemberImportResultDto importMembers(Iterator<CreateMemberRequest> records) {
+        long start = System.nanoTime();
+        long received = 0;
+        Map<MemberImportStatus, Long> counts = new EnumMap<>(MemberImportStatus.class);
+        List<MemberImportFailureDto> failures = new ArrayList<>();
+        List<CreateMemberRequest> chunk = new ArrayList<>(memberImportChunkSize);
+        
+        // Each chunk is its own transaction; only failures are kept, so memory stays bounded by the chunk
+        while (records.hasNext()) {
+            chunk.add(records.next());
+            if (chunk.size() == memberImportChunkSize || !records.hasNext()) {
+                for (MemberImportFailureDto failure : memberBatchImporter.importBatch(chunk, received + 1)) {
+                    counts.merge(failure.getStatus(), 1L, Long::sum);
+                    if (failures.size() < maxReportedImportFailures) {
+                        failures.add(failure);
+                    }
+                }
+                received += chunk.size();
+                chunk.clear();
             }
-            
-            // Record the order
-            stats.recordOrder(orderValue);
-            
-            // Update member lifetime value
-            member.setTotalLifetimeValue(member.getTotalLifetimeValue().add(orderValue));
-            
-            orderStatisticsRepository.save(stats);
-            memberRepository.save(member);
-            
-            log.debug("Order recorded successfully for userId: {}", userId);
-            
-        } catch (Exception e) {
-            log.error("Error recording order for userId: {}", userId, e);
-            throw e; // Re-throw to ensure transaction rollback
         }
+        
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        long duplicates = counts.getOrDefault(MemberImportStatus.DUPLICATE, 0L);
+        long rejected = counts.getOrDefault(MemberImportStatus.REJECTED, 0L);
+        MemberImportResultDto response = MemberImportResultDto.builder()
+                .received(received)
+                .imported(received - duplicates - rejected)
+                .duplicates(duplicates)
+                .rejected(rejected)
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsPerSecond(received * TimeUnit.SECONDS.toNanos(1) / elapsedNanos)
+                .failures(failures)
+                .build();
+        
+        log.info("Imported members: {} received, {} imported, {} duplicates, {} rejected in {} ms ({} rows/s)",
+                response.getReceived(), response.getImported(), response.getDuplicates(), response.getRejected(),
+                response.getElapsedMs(), response.getRowsPerSecond());
+        return response;
+    }
+
+    @Override
+    public void streamTierEligibility(MembershipTierType tierType, String cohort, Integer chunkSize,
+                                      Consumer<List<MemberEligibilityDto>> chunkConsumer) {
+        int size = chunkSize == null ? bulkChunkSize : Math.max(1, Math.min(chunkSize, MAX_BULK_CHUNK_SIZE));
+        
+        tierEligibilityEngine.evaluateAllMembers(cohort, size, chunk -> {
+            List<MemberEligibilityDto> results = chunk.stream()
+                    .filter(result -> tierType == null || result.getEligibleTiers().stream()
+                            .anyMatch(tier -> tier.getTierType() == tierType))
+                    .map(mapper::toMemberEligibilityDto)
+                    .collect(Collectors.toList());
+            if (!results.isEmpty()) {
+                chunkConsumer.accept(results);
+            }
+        });
     }
-} 
\ No newline at end of file
+}
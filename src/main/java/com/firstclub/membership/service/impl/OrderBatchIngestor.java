@@ -0,0 +1,172 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.dto.request.OrderRecordRequest;
+import com.firstclub.membership.dto.response.OrderRecordResultDto;
+import com.firstclub.membership.entity.ProcessedOrder;
+import com.firstclub.membership.enums.OrderRecordStatus;
+import com.firstclub.membership.repository.MemberRepository;
+import com.firstclub.membership.repository.ProcessedOrderRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Applies batches of orders with per-record results.
+ * Each batch runs in one transaction: records are validated, de-duplicated by orderId against
+ * the batch itself and previously applied orders, grouped by member and applied as one
+ * aggregated statistics update per member. No member locks are taken: order ids are claimed in
+ * sorted order and statistics rows are updated with atomic increments in member id order, so
+ * concurrent batches only wait on the rows they share and cannot deadlock. A batch that loses a
+ * race on an orderId or a lock conflict is retried, and the retry reports the already-applied
+ * orders as duplicates. Other data errors fail the batch without a retry.
+ */
+@Component
+@Slf4j
+public class OrderBatchIngestor {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final MemberRepository memberRepository;
+    private final ProcessedOrderRepository processedOrderRepository;
+    private final OrderStatisticsUpdater orderStatisticsUpdater;
+    private final Validator validator;
+    private final TransactionTemplate batchTransaction;
+    private final int retentionDays;
+
+    public OrderBatchIngestor(MemberRepository memberRepository,
+                              ProcessedOrderRepository processedOrderRepository,
+                              OrderStatisticsUpdater orderStatisticsUpdater,
+                              Validator validator,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${membership.orders.idempotency.retention-days:7}") int retentionDays) {
+        this.memberRepository = memberRepository;
+        this.processedOrderRepository = processedOrderRepository;
+        this.orderStatisticsUpdater = orderStatisticsUpdater;
+        this.validator = validator;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Apply a batch of orders
+     *
+     * @return one result per record, in the order submitted
+     */
+    public List<OrderRecordResultDto> ingest(List<OrderRecordRequest> records) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return batchTransaction.execute(status -> apply(records));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS || !(e instanceof ConcurrencyFailureException || isOrderIdConflict(e))) {
+                    throw e;
+                }
+                log.warn("Order batch of {} records conflicted with a concurrent batch, retrying (attempt {})",
+                        records.size(), attempt + 1);
+            }
+        }
+    }
+
+    /**
+     * Drop idempotency records past the retention window; replays older than this are counted again
+     */
+    @Scheduled(cron = "${membership.orders.idempotency.purge-cron:0 0 3 * * *}")
+    public void purgeProcessedOrders() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer purged = batchTransaction.execute(status -> processedOrderRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed order records older than {}", purged, cutoff);
+    }
+
+    private List<OrderRecordResultDto> apply(List<OrderRecordRequest> records) {
+        OrderRecordResultDto[] results = new OrderRecordResultDto[records.size()];
+
+        // Validate and drop repeats of an orderId within the batch (first occurrence wins)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            OrderRecordRequest record = records.get(i);
+            Set<ConstraintViolation<OrderRecordRequest>> violations = validator.validate(record);
+            if (!violations.isEmpty()) {
+                results[i] = result(record, OrderRecordStatus.REJECTED, violations.iterator().next().getMessage());
+            } else if (candidates.putIfAbsent(record.getOrderId(), i) != null) {
+                results[i] = result(record, OrderRecordStatus.DUPLICATE, "Duplicate order ID in batch");
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> applied = processedOrderRepository.findExistingOrderIds(candidates.keySet());
+            Map<String, Long> memberIds = memberRepository
+                    .findIdsByUserIdIn(candidates.values().stream()
+                            .map(i -> records.get(i).getUserId())
+                            .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(MemberRepository.MemberIdView::getUserId, MemberRepository.MemberIdView::getId));
+
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, OrderDelta> deltas = new TreeMap<>();
+            List<ProcessedOrder> processed = new ArrayList<>();
+            for (int i : candidates.values()) {
+                OrderRecordRequest record = records.get(i);
+                Long memberId = memberIds.get(record.getUserId());
+                if (applied.contains(record.getOrderId())) {
+                    results[i] = result(record, OrderRecordStatus.DUPLICATE, "Order already recorded");
+                } else if (memberId == null) {
+                    results[i] = result(record, OrderRecordStatus.REJECTED, "Member not found");
+                } else {
+                    deltas.computeIfAbsent(memberId, id -> new OrderDelta(record.getUserId()))
+                            .add(record.getOrderValue(), now);
+                    processed.add(ProcessedOrder.builder()
+                            .orderId(record.getOrderId())
+                            .member(memberRepository.getReferenceById(memberId))
+                            .orderValue(record.getOrderValue())
+                            .processedAt(now)
+                            .build());
+                    results[i] = result(record, OrderRecordStatus.ACCEPTED, null);
+                }
+            }
+
+            // Claim the order IDs first, in a fixed order, so a concurrent batch with the same IDs
+            // fails before touching statistics
+            processed.sort(Comparator.comparing(ProcessedOrder::getOrderId));
+            processedOrderRepository.saveAllAndFlush(processed);
+            deltas.forEach(orderStatisticsUpdater::applyOrders);
+            log.debug("Applied {} orders for {} members from a batch of {}", processed.size(), deltas.size(), records.size());
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Whether a failure is a concurrent claim of the same orderId, which a retry resolves
+     */
+    private static boolean isOrderIdConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(ProcessedOrder.ORDER_ID_KEY);
+            }
+        }
+        return false;
+    }
+
+    private static OrderRecordResultDto result(OrderRecordRequest record, OrderRecordStatus status, String message) {
+        return OrderRecordResultDto.builder()
+                .orderId(record.getOrderId())
+                .userId(record.getUserId())
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
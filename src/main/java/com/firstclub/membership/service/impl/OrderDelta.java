@@ -0,0 +1,49 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.DailyOrderBuckets;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregated order count and value for one member, coalesced from one or more orders
+ */
+@Getter
+public class OrderDelta {
+
+    private final String userId;
+    private int orderCount;
+    private BigDecimal orderValue = BigDecimal.ZERO;
+    private DailyOrderBuckets dailyBuckets = DailyOrderBuckets.EMPTY;
+    private LocalDateTime firstOrderAt;
+    private LocalDateTime lastOrderAt;
+
+    public OrderDelta(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Create a delta for a single order
+     */
+    public static OrderDelta of(String userId, BigDecimal orderValue, LocalDateTime orderedAt) {
+        OrderDelta delta = new OrderDelta(userId);
+        delta.add(orderValue, orderedAt);
+        return delta;
+    }
+
+    /**
+     * Fold another order into this delta
+     */
+    public void add(BigDecimal value, LocalDateTime orderedAt) {
+        orderCount++;
+        orderValue = orderValue.add(value);
+        dailyBuckets = dailyBuckets.plus(orderedAt.toLocalDate(), 1, value);
+        if (firstOrderAt == null || orderedAt.isBefore(firstOrderAt)) {
+            firstOrderAt = orderedAt;
+        }
+        if (lastOrderAt == null || orderedAt.isAfter(lastOrderAt)) {
+            lastOrderAt = orderedAt;
+        }
+    }
+}
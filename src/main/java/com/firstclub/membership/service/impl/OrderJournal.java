@@ -0,0 +1,183 @@
+package com.firstclub.membership.service.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local append-only journal for buffered orders.
+ * Every accepted order is appended before it is acknowledged; a checkpoint file records the
+ * highest sequence number persisted to the database. On restart, entries past the checkpoint
+ * are replayed, which gives at-least-once delivery. Orders that cannot be persisted at all
+ * are moved to a dead-letter file in the same format for manual inspection and replay.
+ */
+@Slf4j
+public class OrderJournal implements Closeable {
+
+    private static final String JOURNAL_FILE = "orders.journal";
+    private static final String CHECKPOINT_FILE = "orders.checkpoint";
+    private static final String DEAD_LETTER_FILE = "orders.deadletter";
+
+    private final Path journalPath;
+    private final Path checkpointPath;
+    private final Path deadLetterPath;
+    private final boolean fsync;
+    private final FileChannel channel;
+    private long lastAppended;
+
+    public OrderJournal(Path directory, boolean fsync) throws IOException {
+        Files.createDirectories(directory);
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        this.deadLetterPath = directory.resolve(DEAD_LETTER_FILE);
+        this.fsync = fsync;
+        this.channel = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replay entries written after the last checkpoint
+     *
+     * @return the highest sequence number found in the journal or checkpoint
+     */
+    public long recover(Consumer<Entry> replay) throws IOException {
+        long checkpoint = readCheckpoint();
+        long highest = checkpoint;
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = Entry.parse(line);
+                if (entry == null) {
+                    log.warn("Skipping corrupt order journal line: {}", line);
+                    continue;
+                }
+                highest = Math.max(highest, entry.getSequence());
+                if (entry.getSequence() > checkpoint) {
+                    replay.accept(entry);
+                    replayed++;
+                }
+            }
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} orders from the order journal after checkpoint {}", replayed, checkpoint);
+        }
+        lastAppended = highest;
+        return highest;
+    }
+
+    /**
+     * Append an entry; callers serialize appends so sequence numbers are written in order
+     *
+     * @throws IllegalArgumentException if the user id cannot be journaled, see {@link Entry#isJournalable}
+     */
+    public void append(Entry entry) throws IOException {
+        if (!Entry.isJournalable(entry.getUserId())) {
+            throw new IllegalArgumentException("User id cannot be journaled: " + entry.getUserId());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap((entry.format() + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        lastAppended = entry.getSequence();
+    }
+
+    /**
+     * Record that every entry up to {@code sequence} is in the database.
+     * Once everything appended is checkpointed, the journal is truncated.
+     */
+    public void checkpoint(long sequence) throws IOException {
+        Path temp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, Long.toString(sequence), StandardCharsets.UTF_8);
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (sequence >= lastAppended) {
+            channel.truncate(0);
+        }
+    }
+
+    /**
+     * Append entries that could not be persisted to the dead-letter file, always syncing it
+     */
+    public void deadLetter(List<Entry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            lines.append(entry.format()).append('\n');
+        }
+        try (FileChannel deadLetters = FileChannel.open(deadLetterPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                deadLetters.write(buffer);
+            }
+            deadLetters.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0;
+        }
+        String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    /**
+     * One journaled order: {@code sequence,orderedAt,orderValue,userId}.
+     * The user id is the last field so it may contain commas, but not line breaks.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final long sequence;
+        private final String userId;
+        private final BigDecimal orderValue;
+        private final LocalDateTime orderedAt;
+
+        /**
+         * Whether a user id fits on a single journal line, i.e. holds no control characters
+         */
+        public static boolean isJournalable(String userId) {
+            return userId != null && userId.chars().noneMatch(Character::isISOControl);
+        }
+
+        String format() {
+            return sequence + "," + orderedAt + "," + orderValue.toPlainString() + "," + userId;
+        }
+
+        static Entry parse(String line) {
+            String[] parts = line.split(",", 4);
+            if (parts.length != 4) {
+                return null;
+            }
+            try {
+                return new Entry(Long.parseLong(parts[0]), parts[3],
+                        new BigDecimal(parts[2]), LocalDateTime.parse(parts[1]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
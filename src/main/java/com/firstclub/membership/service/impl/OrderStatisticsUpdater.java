@@ -0,0 +1,138 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.DailyOrderBuckets;
+import com.firstclub.membership.entity.OrderStatistics;
+import com.firstclub.membership.repository.MemberRepository;
+import com.firstclub.membership.repository.OrderDailyBucketRepository;
+import com.firstclub.membership.repository.OrderStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Applies aggregated order deltas to member order statistics, daily order buckets and lifetime value.
+ * Every write is an atomic SQL increment, so concurrent orders for the same member only contend
+ * for the duration of a single statement rather than a read-modify-write under lock. Callers that
+ * see many orders per member (write-behind flushes, batch ingestion) coalesce them first, so each
+ * member's rows are written once per batch rather than once per order.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatisticsUpdater {
+
+    // Add to the member's bucket for the day, creating it on the day's first order (standard SQL MERGE)
+    private static final String UPSERT_DAILY_BUCKET =
+            "MERGE INTO \"order_daily_buckets\" b " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS INTEGER), CAST(? AS BIGINT))) " +
+            "AS d(\"member_id\", \"epoch_day\", \"order_count\", \"value_cents\") " +
+            "ON b.\"member_id\" = d.\"member_id\" AND b.\"epoch_day\" = d.\"epoch_day\" " +
+            "WHEN MATCHED THEN UPDATE SET \"order_count\" = b.\"order_count\" + d.\"order_count\", " +
+            "\"value_cents\" = b.\"value_cents\" + d.\"value_cents\" " +
+            "WHEN NOT MATCHED THEN INSERT (\"member_id\", \"epoch_day\", \"order_count\", \"value_cents\") " +
+            "VALUES (d.\"member_id\", d.\"epoch_day\", d.\"order_count\", d.\"value_cents\")";
+
+    private final MemberRepository memberRepository;
+    private final OrderStatisticsRepository orderStatisticsRepository;
+    private final OrderDailyBucketRepository orderDailyBucketRepository;
+    private final MemberStatusCache memberStatusCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply an order delta to a member (joins the caller's transaction if there is one)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void applyOrders(Long memberId, OrderDelta delta) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = orderStatisticsRepository.applyOrderDelta(memberId, delta.getOrderCount(), delta.getOrderValue(),
+                delta.getFirstOrderAt(), delta.getLastOrderAt(), now);
+        if (updated == 0) {
+            createStatistics(memberId, delta);
+        }
+
+        delta.getDailyBuckets().forEachDay((epochDay, orderCount, valueCents) ->
+                upsertDailyBucket(memberId, epochDay, orderCount, valueCents));
+
+        memberRepository.addToLifetimeValue(memberId, delta.getOrderValue(), now);
+        memberStatusCache.invalidateAfterCommit(delta.getUserId());
+    }
+
+    /**
+     * Apply a batch of per-member deltas in a single transaction.
+     * Deltas for members that no longer exist are skipped.
+     *
+     * @return number of orders applied
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int applyBatch(Collection<OrderDelta> deltas) {
+        Map<String, Long> memberIds = memberRepository
+                .findIdsByUserIdIn(deltas.stream().map(OrderDelta::getUserId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(MemberRepository.MemberIdView::getUserId, MemberRepository.MemberIdView::getId));
+
+        // Write rows in member id order, like batch ingestion, so concurrent writers cannot deadlock
+        Map<Long, OrderDelta> byMemberId = new TreeMap<>();
+        for (OrderDelta delta : deltas) {
+            Long memberId = memberIds.get(delta.getUserId());
+            if (memberId == null) {
+                log.warn("Dropping {} buffered orders for unknown userId: {}", delta.getOrderCount(), delta.getUserId());
+                continue;
+            }
+            byMemberId.put(memberId, delta);
+        }
+
+        int applied = 0;
+        for (Map.Entry<Long, OrderDelta> entry : byMemberId.entrySet()) {
+            applyOrders(entry.getKey(), entry.getValue());
+            applied += entry.getValue().getOrderCount();
+        }
+        return applied;
+    }
+
+    /**
+     * Drop daily buckets that have aged out of the longest evaluation window
+     */
+    @Scheduled(cron = "${membership.orders.buckets.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpiredBuckets() {
+        long lastExpiredDay = DailyOrderBuckets.currentEpochDay() - DailyOrderBuckets.DAYS;
+        int purged = orderDailyBucketRepository.deleteOnOrBefore(lastExpiredDay);
+        log.info("Purged {} daily order buckets up to epoch day {}", purged, lastExpiredDay);
+    }
+
+    /**
+     * Members created before statistics rows existed get one on their first order.
+     * The insert is flushed right away so its unique member key serializes concurrent first
+     * orders before any bucket is written.
+     */
+    private void createStatistics(Long memberId, OrderDelta delta) {
+        OrderStatistics stats = orderStatisticsRepository.findByMemberIdWithLock(memberId)
+                .orElseGet(() -> OrderStatistics.builder()
+                        .member(memberRepository.getReferenceById(memberId))
+                        .lastUpdated(LocalDateTime.now())
+                        .build());
+        stats.recordOrders(delta.getOrderCount(), delta.getOrderValue(), delta.getFirstOrderAt(), delta.getLastOrderAt());
+        orderStatisticsRepository.saveAndFlush(stats);
+    }
+
+    /**
+     * Runs after the member's statistics row has been updated (or created) in this transaction,
+     * so the row lock held until commit serializes bucket writes per member: two first orders of
+     * a day can never both miss the bucket and race to insert it. No failed statement needs to be
+     * caught and retried, which some databases (e.g. PostgreSQL) would not allow mid-transaction.
+     */
+    private void upsertDailyBucket(Long memberId, long epochDay, int orderCount, long valueCents) {
+        jdbcTemplate.update(UPSERT_DAILY_BUCKET, memberId, epochDay, orderCount, valueCents);
+    }
+}
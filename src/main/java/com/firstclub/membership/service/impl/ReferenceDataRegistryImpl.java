@@ -0,0 +1,131 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.MembershipPlan;
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.RejectedException;
+import com.firstclub.membership.repository.MembershipPlanRepository;
+import com.firstclub.membership.service.ReferenceDataRegistry;
+import com.firstclub.membership.service.TierCatalogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Plans are held in an array indexed by {@link MembershipPlanType#ordinal()} and swapped as a
+ * whole on reload; tiers come from the tier catalog snapshot, whose by-type map is an EnumMap.
+ * Reloads happen at startup, on a schedule and after plan changes commit, never on the request
+ * path, so a write transaction only ever holds its own connection.
+ */
+@Service
+@Slf4j
+public class ReferenceDataRegistryImpl implements ReferenceDataRegistry {
+
+    private final MembershipPlanRepository planRepository;
+    private final TierCatalogService tierCatalogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Plans plans;
+
+    public ReferenceDataRegistryImpl(MembershipPlanRepository planRepository,
+                                     TierCatalogService tierCatalogService,
+                                     PlatformTransactionManager transactionManager) {
+        this.planRepository = planRepository;
+        this.tierCatalogService = tierCatalogService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public MembershipPlan getPlan(MembershipPlanType planType) {
+        MembershipPlan plan = currentPlans().byType[planType.ordinal()];
+        if (plan == null) {
+            throw new RejectedException(ErrorCode.PLAN_NOT_FOUND, "Plan not found");
+        }
+        return plan;
+    }
+
+    @Override
+    public MembershipTier getTier(MembershipTierType tierType) {
+        return tierCatalogService.getCatalog().findByType(tierType)
+                .orElseThrow(() -> new RejectedException(ErrorCode.TIER_NOT_FOUND, "Tier not found"));
+    }
+
+    @Override
+    public List<MembershipPlan> getAvailablePlans() {
+        return currentPlans().available;
+    }
+
+    @Override
+    public void refreshPlans() {
+        refreshLock.lock();
+        try {
+            List<MembershipPlan> loaded;
+            try {
+                loaded = transactionTemplate.execute(status -> planRepository.findAll());
+            } catch (RuntimeException e) {
+                if (plans == null) {
+                    throw e;
+                }
+                log.warn("Plan reload failed, serving previously loaded plans", e);
+                return;
+            }
+            plans = new Plans(loaded);
+            log.debug("Loaded {} membership plans", loaded.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshPlans();
+    }
+
+    @Scheduled(initialDelayString = "${membership.catalog.refresh-interval-ms:30000}",
+               fixedDelayString = "${membership.catalog.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        refreshPlans();
+    }
+
+    private Plans currentPlans() {
+        Plans current = plans;
+        if (current == null) {
+            // Nothing to serve yet: every caller waits for the first load
+            refreshPlans();
+            current = plans;
+        }
+        return current;
+    }
+
+    /**
+     * Immutable plan snapshot
+     */
+    private static final class Plans {
+        final MembershipPlan[] byType = new MembershipPlan[MembershipPlanType.values().length];
+        final List<MembershipPlan> available;
+
+        Plans(List<MembershipPlan> loaded) {
+            for (MembershipPlan plan : loaded) {
+                byType[plan.getPlanType().ordinal()] = plan;
+            }
+            this.available = loaded.stream()
+                    .filter(plan -> plan.getIsAvailable() && plan.getActive())
+                    .sorted(Comparator.comparing(MembershipPlan::getDurationInMonths))
+                    .toList();
+        }
+    }
+}
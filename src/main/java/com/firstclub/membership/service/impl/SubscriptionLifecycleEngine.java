@@ -0,0 +1,351 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.BatchCheckpoint;
+import com.firstclub.membership.entity.Subscription;
+import com.firstclub.membership.repository.BatchCheckpointRepository;
+import com.firstclub.membership.repository.SubscriptionRepository;
+import com.firstclub.membership.repository.SubscriptionRepository.DueSubscriptionView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves due subscriptions on: ACTIVE subscriptions whose end date has passed are renewed when
+ * they auto-renew and expired otherwise. A renewal adds as many plan terms as it takes to end
+ * after the run's cutoff, so every processed row leaves the due set and is visited once per run.
+ * A run fixes a cutoff, walks due rows on {@code idx_subscription_dates} in (endDate, id) keyset
+ * chunks and applies up to {@code parallelism} chunks at once on membershipTaskExecutor, each in
+ * its own transaction: expiries as one bulk UPDATE, renewals as JDBC-batched versioned updates.
+ * Every update re-checks that its row is still due, so applying a chunk twice changes nothing
+ * the second time. That is what lets a crashed run resume from its checkpoint, which only
+ * advances past a chunk once it and every chunk before it have committed.
+ */
+@Component
+@Slf4j
+public class SubscriptionLifecycleEngine {
+
+    static final String JOB_NAME = "subscription-lifecycle";
+
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final MemberStatusCache memberStatusCache;
+    private final EntityManager entityManager;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Counter expiredCounter;
+    private final Counter renewedCounter;
+    private final Counter skippedCounter;
+    private final Timer chunkTimer;
+    private final Timer runTimer;
+
+    public SubscriptionLifecycleEngine(SubscriptionRepository subscriptionRepository,
+                                       BatchCheckpointRepository checkpointRepository,
+                                       MemberStatusCache memberStatusCache,
+                                       EntityManager entityManager,
+                                       @Qualifier("membershipTaskExecutor") TaskExecutor taskExecutor,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${membership.lifecycle.enabled:true}") boolean enabled,
+                                       @Value("${membership.lifecycle.chunk-size:500}") int chunkSize,
+                                       @Value("${membership.lifecycle.parallelism:2}") int parallelism) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.memberStatusCache = memberStatusCache;
+        this.entityManager = entityManager;
+        this.taskExecutor = taskExecutor;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.expiredCounter = outcomeCounter(meterRegistry, "expired");
+        this.renewedCounter = outcomeCounter(meterRegistry, "renewed");
+        this.skippedCounter = outcomeCounter(meterRegistry, "skipped");
+        this.chunkTimer = Timer.builder("membership.lifecycle.chunk")
+                .description("Time to apply one chunk of due subscriptions")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("membership.lifecycle.run")
+                .description("Time to process every subscription due at a run's cutoff")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${membership.lifecycle.interval-ms:60000}",
+               fixedDelayString = "${membership.lifecycle.interval-ms:60000}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Subscription lifecycle run failed; the next run resumes from its checkpoint", e);
+        }
+    }
+
+    /**
+     * Process every subscription due at the cutoff, resuming an interrupted run if there is one
+     *
+     * @return the run's totals, or null if a run is already in progress in this instance
+     */
+    public RunResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Subscription lifecycle run already in progress, skipping");
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            Progress progress = new Progress(chunkTransaction.execute(status -> startOrResume()));
+            LocalDateTime cutoff = progress.checkpoint.getCutoff();
+            LocalDateTime afterEndDate = progress.checkpoint.getAfterEndDate();
+            Long afterId = progress.checkpoint.getAfterId();
+
+            Semaphore slots = new Semaphore(parallelism);
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (long sequence = 0; !progress.isFailed(); sequence++) {
+                List<DueSubscriptionView> chunk = nextChunk(cutoff, afterEndDate, afterId);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                DueSubscriptionView last = chunk.get(chunk.size() - 1);
+                afterEndDate = last.getEndDate();
+                afterId = last.getId();
+                chunks.add(submit(chunk, cutoff, sequence, afterEndDate, afterId, slots, progress));
+            }
+
+            try {
+                CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+
+            BatchCheckpoint checkpoint = progress.finish();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            runTimer.record(elapsed);
+            RunResult result = new RunResult(cutoff, checkpoint.getExpired(), checkpoint.getRenewed(),
+                    progress.skipped, elapsed);
+            log.info("Subscription lifecycle run for cutoff {}: {} expired, {} renewed, {} skipped in {} ms ({} subscriptions/s)",
+                    cutoff, result.getExpired(), result.getRenewed(), result.getSkipped(), elapsed.toMillis(),
+                    result.getThroughput());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BatchCheckpoint startOrResume() {
+        BatchCheckpoint checkpoint = checkpointRepository.findByJobName(JOB_NAME)
+                .orElseGet(() -> BatchCheckpoint.builder().jobName(JOB_NAME).build());
+        if (checkpoint.isRunning()) {
+            log.info("Resuming subscription lifecycle run for cutoff {} after ({}, {})",
+                    checkpoint.getCutoff(), checkpoint.getAfterEndDate(), checkpoint.getAfterId());
+            return checkpoint;
+        }
+
+        checkpoint.setCutoff(LocalDateTime.now());
+        checkpoint.setAfterEndDate(KEYSET_START);
+        checkpoint.setAfterId(0L);
+        checkpoint.setExpired(0L);
+        checkpoint.setRenewed(0L);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private List<DueSubscriptionView> nextChunk(LocalDateTime cutoff, LocalDateTime afterEndDate, Long afterId) {
+        return readOnlyTransaction.execute(status -> subscriptionRepository.findDueChunk(
+                cutoff, afterEndDate, afterId, PageRequest.of(0, chunkSize)));
+    }
+
+    private CompletableFuture<Void> submit(List<DueSubscriptionView> chunk, LocalDateTime cutoff, long sequence,
+                                           LocalDateTime endDate, Long id, Semaphore slots, Progress progress) {
+        slots.acquireUninterruptibly();
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    ChunkResult result = applyWithRetry(chunk, cutoff);
+                    progress.completed(sequence, endDate, id, result);
+                } catch (RuntimeException e) {
+                    progress.failed();
+                    throw e;
+                } finally {
+                    slots.release();
+                }
+            }, taskExecutor);
+        } catch (RuntimeException e) {
+            slots.release();
+            progress.failed();
+            throw e;
+        }
+    }
+
+    private ChunkResult applyWithRetry(List<DueSubscriptionView> chunk, LocalDateTime cutoff) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return chunkTimer.record(() -> chunkTransaction.execute(status -> apply(chunk, cutoff)));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Chunk of {} due subscriptions conflicted with a concurrent write, retrying (attempt {})",
+                        chunk.size(), attempt + 1);
+            }
+        }
+    }
+
+    private ChunkResult apply(List<DueSubscriptionView> chunk, LocalDateTime cutoff) {
+        List<Long> expiring = new ArrayList<>();
+        List<Long> renewing = new ArrayList<>();
+        for (DueSubscriptionView due : chunk) {
+            (Boolean.TRUE.equals(due.getAutoRenew()) ? renewing : expiring).add(due.getId());
+        }
+
+        int expired = expiring.isEmpty() ? 0 : subscriptionRepository.expireDue(expiring, cutoff, LocalDateTime.now());
+        int renewed = 0;
+        if (!renewing.isEmpty()) {
+            // Versioned entity updates, flushed at commit as JDBC batches
+            entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+            for (Subscription subscription : subscriptionRepository.findDueRenewals(renewing, cutoff)) {
+                subscription.renewPast(cutoff);
+                renewed++;
+            }
+        }
+
+        memberStatusCache.invalidateAfterCommit(chunk.stream().map(DueSubscriptionView::getUserId).toList());
+        return new ChunkResult(expired, renewed, chunk.size() - expired - renewed);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("membership.lifecycle.subscriptions")
+                .description("Due subscriptions processed by the lifecycle engine")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Totals of a lifecycle run
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RunResult {
+        private final LocalDateTime cutoff;
+        private final long expired;
+        private final long renewed;
+        private final long skipped;
+        private final Duration elapsed;
+
+        /**
+         * Subscriptions processed per second
+         */
+        public long getThroughput() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return (expired + renewed + skipped) * 1000 / millis;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ChunkResult {
+        private final int expired;
+        private final int renewed;
+        private final int skipped;
+    }
+
+    /**
+     * A committed chunk and the keyset position of its last row
+     */
+    @AllArgsConstructor
+    private static class CompletedChunk {
+        private final ChunkResult result;
+        private final LocalDateTime endDate;
+        private final Long id;
+    }
+
+    /**
+     * Tracks completed chunks and moves the checkpoint over each contiguous run of them
+     */
+    private final class Progress {
+        private final Map<Long, CompletedChunk> completed = new TreeMap<>();
+        private BatchCheckpoint checkpoint;
+        private long nextSequence;
+        private long skipped;
+        private volatile boolean failed;
+
+        Progress(BatchCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized void completed(long sequence, LocalDateTime endDate, Long id, ChunkResult result) {
+            expiredCounter.increment(result.getExpired());
+            renewedCounter.increment(result.getRenewed());
+            skippedCounter.increment(result.getSkipped());
+            completed.put(sequence, new CompletedChunk(result, endDate, id));
+
+            boolean advanced = false;
+            for (CompletedChunk next; (next = completed.remove(nextSequence)) != null; nextSequence++) {
+                checkpoint.setAfterEndDate(next.endDate);
+                checkpoint.setAfterId(next.id);
+                checkpoint.setExpired(checkpoint.getExpired() + next.result.getExpired());
+                checkpoint.setRenewed(checkpoint.getRenewed() + next.result.getRenewed());
+                skipped += next.result.getSkipped();
+                advanced = true;
+            }
+            if (advanced) {
+                save();
+            }
+        }
+
+        void failed() {
+            failed = true;
+        }
+
+        boolean isFailed() {
+            return failed;
+        }
+
+        synchronized BatchCheckpoint finish() {
+            checkpoint.setCutoff(null);
+            checkpoint.setLastCompletedAt(LocalDateTime.now());
+            save();
+            return checkpoint;
+        }
+
+        private void save() {
+            BatchCheckpoint current = checkpoint;
+            checkpoint = chunkTransaction.execute(status -> checkpointRepository.save(current));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.firstclub.membership.service.impl;
+
+import com.firstclub.membership.entity.MembershipTier;
+import com.firstclub.membership.repository.MembershipTierRepository;
+import com.firstclub.membership.service.TierCatalog;
+import com.firstclub.membership.service.TierCatalogService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Copy-on-write holder for the tier catalog snapshot.
+ * Readers get the current snapshot without touching the database; a new snapshot is
+ * built off the read path and published atomically when the tier data fingerprint changes.
+ */
+@Service
+@Slf4j
+public class TierCatalogServiceImpl implements TierCatalogService {
+
+    private final MembershipTierRepository tierRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxStaleness;
+    private final Timer refreshTimer;
+
+    private final AtomicReference<TierCatalog> catalog = new AtomicReference<>(TierCatalog.empty());
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile boolean invalidated = true;
+    private volatile Instant verifiedAt = Instant.EPOCH;
+
+    public TierCatalogServiceImpl(MembershipTierRepository tierRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${membership.catalog.max-staleness-ms:300000}") long maxStalenessMs) {
+        this.tierRepository = tierRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.maxStaleness = Duration.ofMillis(maxStalenessMs);
+        this.refreshTimer = Timer.builder("membership.tier.catalog.refresh")
+                .description("Time taken to reload the tier catalog from the database")
+                .register(meterRegistry);
+        Gauge.builder("membership.tier.catalog.version", catalog, c -> c.get().getVersion())
+                .description("Version of the published tier catalog snapshot")
+                .register(meterRegistry);
+        Gauge.builder("membership.tier.catalog.age", this, s -> Duration.between(s.verifiedAt, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since the tier catalog was last verified against the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TierCatalog getCatalog() {
+        TierCatalog current = catalog.get();
+        if (!invalidated && !isStale()) {
+            return current;
+        }
+
+        // Nothing to serve yet: every caller waits for the first build
+        if (current.getVersion() == 0) {
+            return refresh();
+        }
+
+        // Staleness guard: one caller rebuilds, the rest keep serving the current snapshot
+        if (refreshLock.tryLock()) {
+            try {
+                return refresh();
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public TierCatalog refresh() {
+        refreshLock.lock();
+        try {
+            TierCatalog current = catalog.get();
+            // Clear first so an invalidation racing with the load triggers another rebuild
+            invalidated = false;
+
+            long start = System.nanoTime();
+            List<MembershipTier> tiers;
+            try {
+                tiers = transactionTemplate.execute(status -> tierRepository.findAllForCatalog());
+            } catch (RuntimeException e) {
+                invalidated = true;
+                if (current.getVersion() == 0) {
+                    throw e;
+                }
+                log.warn("Tier catalog refresh failed, serving version {}", current.getVersion(), e);
+                return current;
+            } finally {
+                refreshTimer.record(Duration.ofNanos(System.nanoTime() - start));
+            }
+
+            verifiedAt = Instant.now();
+            if (current.getVersion() > 0 && TierCatalog.fingerprintOf(tiers) == current.getFingerprint()) {
+                return current;
+            }
+
+            TierCatalog next = new TierCatalog(current.getVersion() + 1, verifiedAt, tiers);
+            catalog.set(next);
+            log.info("Published tier catalog version {} with {} tiers", next.getVersion(), next.getTiers().size());
+            return next;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * Periodically re-verify the snapshot to pick up changes made outside this instance
+     */
+    @Scheduled(initialDelayString = "${membership.catalog.refresh-interval-ms:30000}",
+               fixedDelayString = "${membership.catalog.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    private boolean isStale() {
+        return Duration.between(verifiedAt, Instant.now()).compareTo(maxStaleness) > 0;
+    }
+}
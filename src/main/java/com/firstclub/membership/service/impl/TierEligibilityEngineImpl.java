@@ -2,113 +2,89 @@ package com.firstclub.membership.service.impl;
 
 import com.firstclub.membership.entity.Member;
 import com.firstclub.membership.entity.MembershipTier;
-import com.firstclub.membership.entity.OrderStatistics;
-import com.firstclub.membership.entity.TierEligibilityCriteria;
-import com.firstclub.membership.repository.MembershipTierRepository;
+import com.firstclub.membership.repository.MemberRepository;
+import com.firstclub.membership.service.MemberEligibility;
+import com.firstclub.membership.service.TierCatalog;
+import com.firstclub.membership.service.TierCatalogService;
 import com.firstclub.membership.service.TierEligibilityEngine;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.*;
-import java.util.concurrent.*;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
- * Implementation of tier eligibility engine with concurrent criteria evaluation
+ * Implementation of tier eligibility engine backed by the compiled tier catalog
  */
 @Service
+@Timed(value = "membership.eligibility", description = "Tier eligibility evaluation")
 @RequiredArgsConstructor
 @Slf4j
 public class TierEligibilityEngineImpl implements TierEligibilityEngine {
 
-    private final MembershipTierRepository tierRepository;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(5);
+    private final TierCatalogService tierCatalogService;
+    private final MemberRepository memberRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     @Transactional(readOnly = true)
     public List<MembershipTier> findEligibleTiers(Member member) {
         log.debug("Finding eligible tiers for member: {}", member.getUserId());
         
-        List<MembershipTier> allTiers = tierRepository.findAllWithEligibilityCriteria();
-        
-        // Use concurrent processing to evaluate eligibility for each tier
-        List<CompletableFuture<Optional<MembershipTier>>> futures = allTiers.stream()
-                .map(tier -> CompletableFuture.supplyAsync(
-                        () -> isEligibleForTier(member, tier) ? Optional.of(tier) : Optional.<MembershipTier>empty(),
-                        executorService
-                ))
-                .collect(Collectors.toList());
-        
-        // Collect results
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .sorted(Comparator.comparing(MembershipTier::getLevel))
-                .collect(Collectors.toList());
+        // Checks take microseconds, so evaluate every tier inline on the caller thread
+        return tierCatalogService.getCatalog().eligibleTiers(member);
     }
 
     @Override
     public boolean isEligibleForTier(Member member, MembershipTier tier) {
-        if (!tier.getIsAvailable() || !tier.getActive()) {
-            return false;
-        }
-        
-        Set<TierEligibilityCriteria> criteria = tier.getEligibilityCriteria();
-        if (criteria.isEmpty()) {
-            return true; // No criteria means everyone is eligible
-        }
-        
-        // Check all criteria - member must meet ALL active criteria
-        for (TierEligibilityCriteria criterion : criteria) {
-            if (criterion.getIsActive() && !evaluateCriterion(member, criterion)) {
-                return false;
-            }
-        }
-        
-        return true;
+        // Criteria are compiled once per catalog version; evaluation does no parsing or boxing
+        return tierCatalogService.getCatalog().predicateFor(tier).test(member);
     }
 
-    private boolean evaluateCriterion(Member member, TierEligibilityCriteria criterion) {
-        OrderStatistics stats = member.getOrderStatistics();
-        
-        switch (criterion.getCriteriaType()) {
-            case "ORDER_COUNT":
-                if (stats == null) return false;
-                Integer count = criterion.getEvaluationPeriodDays() == null ? 
-                        stats.getTotalOrderCount() : stats.getMonthlyOrderCount();
-                return criterion.isMet(count);
-                
-            case "ORDER_VALUE":
-                if (stats == null) return false;
-                Object value = criterion.getEvaluationPeriodDays() == null ? 
-                        stats.getTotalOrderValue() : stats.getMonthlyOrderValue();
-                return criterion.isMet(value);
-                
-            case "COHORT":
-                return criterion.isMet(member.getCohort());
-                
-            default:
-                log.warn("Unknown criteria type: {}", criterion.getCriteriaType());
-                return false;
-        }
-    }
+    @Override
+    public void evaluateAllMembers(String cohort, int chunkSize, Consumer<List<MemberEligibility>> chunkConsumer) {
+        log.info("Starting bulk eligibility evaluation for cohort: {}", cohort);
 
-    /**
-     * Shutdown the executor service
-     */
-    @jakarta.annotation.PreDestroy
-    public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
+        // One short read-only transaction per chunk, so no connection or persistence context
+        // is held while results are written out and memory stays bounded by the chunk size
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        PageRequest page = PageRequest.ofSize(chunkSize);
+        TierCatalog catalog = tierCatalogService.getCatalog();
+
+        long afterId = 0;
+        long evaluated = 0;
+        while (true) {
+            long cursor = afterId;
+            List<MemberEligibility> results = transactionTemplate.execute(status -> {
+                List<Member> members = memberRepository.findChunkWithStatistics(cursor, cohort, page);
+                // Lazy loading is not safe from the worker threads, so windowed criteria read pre-fetched buckets
+                if (!members.isEmpty()) {
+                    memberRepository.fetchRecentOrderBuckets(members);
+                }
+                return members.parallelStream()
+                        .map(member -> new MemberEligibility(member, catalog.eligibleTiers(member)))
+                        .collect(Collectors.toList());
+            });
+            if (results == null || results.isEmpty()) {
+                break;
+            }
+
+            chunkConsumer.accept(results);
+            evaluated += results.size();
+            afterId = results.get(results.size() - 1).getMember().getId();
+            if (results.size() < chunkSize) {
+                break;
             }
-        } catch (InterruptedException e) {
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt();
         }
+
+        log.info("Bulk eligibility evaluation finished for cohort: {}, members evaluated: {}", cohort, evaluated);
     }
-} 
\ No newline at end of file
+}
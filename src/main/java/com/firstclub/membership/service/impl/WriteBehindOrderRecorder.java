@@ -0,0 +1,314 @@
+package com.firstclub.membership.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Opt-in write-behind pipeline for recorded orders.
+ * Orders are journaled locally and buffered in a bounded queue; a single flusher thread
+ * coalesces them per member and applies one statistics update per member per batch,
+ * triggered by batch size or flush interval. When the buffer is full, callers are told
+ * to fall back to the synchronous path, which naturally applies backpressure.
+ * A batch that keeps failing is retried a bounded number of times, then applied member by
+ * member; orders for members that still fail go to the journal's dead-letter file so the
+ * flusher can checkpoint past them and keep going.
+ */
+@Component
+@Slf4j
+public class WriteBehindOrderRecorder {
+
+    private static final long MAX_RETRY_BACKOFF_MS = 5000;
+
+    private final OrderStatisticsUpdater orderStatisticsUpdater;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxFlushAttempts;
+    private final Path journalDirectory;
+    private final boolean journalFsync;
+    private final BlockingQueue<OrderJournal.Entry> buffer;
+
+    private final Counter bufferedOrders;
+    private final Counter rejectedOrders;
+    private final Counter flushedOrders;
+    private final Counter deadLetteredOrders;
+    private final Timer flushTimer;
+
+    // Guards sequence assignment, journal appends and checkpoints
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private OrderJournal journal;
+    private long sequence;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public WriteBehindOrderRecorder(OrderStatisticsUpdater orderStatisticsUpdater,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${membership.orders.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${membership.orders.write-behind.capacity:10000}") int capacity,
+                                    @Value("${membership.orders.write-behind.batch-size:500}") int batchSize,
+                                    @Value("${membership.orders.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+                                    @Value("${membership.orders.write-behind.max-flush-attempts:5}") int maxFlushAttempts,
+                                    @Value("${membership.orders.write-behind.journal-dir:./data/order-journal}") String journalDirectory,
+                                    @Value("${membership.orders.write-behind.journal-fsync:false}") boolean journalFsync) {
+        this.orderStatisticsUpdater = orderStatisticsUpdater;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxFlushAttempts = Math.max(1, maxFlushAttempts);
+        this.journalDirectory = Path.of(journalDirectory);
+        this.journalFsync = journalFsync;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+
+        this.bufferedOrders = Counter.builder("membership.orders.buffered")
+                .description("Orders accepted into the write-behind buffer")
+                .register(meterRegistry);
+        this.rejectedOrders = Counter.builder("membership.orders.buffer.rejected")
+                .description("Orders written synchronously because the write-behind buffer was full")
+                .register(meterRegistry);
+        this.flushedOrders = Counter.builder("membership.orders.flushed")
+                .description("Buffered orders persisted to the database")
+                .register(meterRegistry);
+        this.deadLetteredOrders = Counter.builder("membership.orders.dead-lettered")
+                .description("Buffered orders that could not be persisted and were written to the dead-letter file")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("membership.orders.flush")
+                .description("Time taken to persist one coalesced batch of buffered orders")
+                .register(meterRegistry);
+        meterRegistry.gauge("membership.orders.buffer.size", buffer, BlockingQueue::size);
+    }
+
+    /**
+     * Whether orders are currently being accepted into the buffer
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Journal and buffer an order for asynchronous persistence.
+     * The order is only acknowledged once it is in the journal; submitters are serialized by
+     * the journal lock and the flusher only takes entries out, so checking capacity first
+     * guarantees the offer after the append succeeds.
+     *
+     * @return false if the order was not buffered and must be written synchronously
+     */
+    public boolean submit(String userId, BigDecimal orderValue) {
+        if (!running || !OrderJournal.Entry.isJournalable(userId)) {
+            return false;
+        }
+
+        journalLock.lock();
+        try {
+            if (buffer.remainingCapacity() == 0) {
+                rejectedOrders.increment();
+                return false;
+            }
+            OrderJournal.Entry entry = new OrderJournal.Entry(sequence + 1, userId, orderValue, LocalDateTime.now());
+            try {
+                journal.append(entry);
+            } catch (IOException e) {
+                log.error("Failed to journal order for userId: {}, writing it synchronously", userId, e);
+                return false;
+            }
+            sequence = entry.getSequence();
+            buffer.add(entry);
+            bufferedOrders.increment();
+            return true;
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        List<OrderJournal.Entry> pending = new ArrayList<>();
+        try {
+            journal = new OrderJournal(journalDirectory, journalFsync);
+            sequence = journal.recover(pending::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open order journal in " + journalDirectory, e);
+        }
+
+        // Persist anything left over from the previous run before accepting new orders
+        running = true;
+        for (int i = 0; i < pending.size(); i += batchSize) {
+            if (!flush(pending.subList(i, Math.min(i + batchSize, pending.size())))) {
+                throw new IllegalStateException("Interrupted while replaying the order journal");
+            }
+        }
+
+        flusher = new Thread(this::runFlusher, "order-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Write-behind order recording enabled (capacity: {}, batch size: {})",
+                buffer.remainingCapacity() + buffer.size(), batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (!running) {
+            return;
+        }
+
+        // Stop accepting, then let the flusher drain what is already buffered
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (flusher.isAlive()) {
+            log.warn("Order flusher did not drain in time; {} orders will be replayed from the journal", buffer.size());
+            flusher.interrupt();
+        }
+        journal.close();
+    }
+
+    private void runFlusher() {
+        List<OrderJournal.Entry> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !buffer.isEmpty()) {
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    OrderJournal.Entry entry = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (entry == null) {
+                        break;
+                    }
+                    batch.add(entry);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (!batch.isEmpty()) {
+                    if (!flush(batch)) {
+                        // A later checkpoint would skip the unflushed batch; leave it and the rest to replay
+                        return;
+                    }
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Persist a batch and checkpoint past it.
+     * If the batch still fails after the configured attempts, members are applied one at a time
+     * so a single bad delta cannot hold back the rest; orders for members that fail on their own
+     * are dead-lettered.
+     *
+     * @return false if the batch was abandoned during shutdown, leaving it to be replayed from the journal
+     */
+    private boolean flush(List<OrderJournal.Entry> batch) {
+        Map<String, OrderDelta> deltas = new LinkedHashMap<>();
+        Map<String, List<OrderJournal.Entry>> entriesByUser = new HashMap<>();
+        for (OrderJournal.Entry entry : batch) {
+            deltas.computeIfAbsent(entry.getUserId(), OrderDelta::new)
+                    .add(entry.getOrderValue(), entry.getOrderedAt());
+            entriesByUser.computeIfAbsent(entry.getUserId(), userId -> new ArrayList<>()).add(entry);
+        }
+
+        Boolean applied = applyWithRetry(deltas.values(), batch.size());
+        if (applied == null) {
+            return false;
+        }
+
+        List<OrderJournal.Entry> deadLetters = new ArrayList<>();
+        if (!applied) {
+            for (OrderDelta delta : deltas.values()) {
+                try {
+                    flushTimer.record(() -> orderStatisticsUpdater.applyBatch(List.of(delta)));
+                } catch (RuntimeException e) {
+                    log.error("Failed to flush {} buffered orders for userId: {}, dead-lettering them",
+                            delta.getOrderCount(), delta.getUserId(), e);
+                    deadLetters.addAll(entriesByUser.get(delta.getUserId()));
+                }
+            }
+        }
+        flushedOrders.increment(batch.size() - deadLetters.size());
+
+        // Entries leave the buffer in sequence order, so the last one is the highest persisted
+        journalLock.lock();
+        try {
+            if (!deadLetters.isEmpty()) {
+                deadLetter(deadLetters);
+            }
+            journal.checkpoint(batch.get(batch.size() - 1).getSequence());
+        } catch (IOException e) {
+            log.error("Failed to checkpoint order journal; flushed orders may be replayed", e);
+        } finally {
+            journalLock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Apply the deltas, retrying with backoff up to the configured number of attempts
+     *
+     * @return true if applied, false if every attempt failed, null if abandoned during shutdown
+     */
+    private Boolean applyWithRetry(Collection<OrderDelta> deltas, int orders) {
+        long backoffMs = 100;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> orderStatisticsUpdater.applyBatch(deltas));
+                return true;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    log.error("Giving up on {} buffered orders during shutdown; they will be replayed from the journal",
+                            orders, e);
+                    return null;
+                }
+                if (attempt >= maxFlushAttempts) {
+                    log.error("Failed to flush {} buffered orders after {} attempts, applying them per member",
+                            orders, attempt, e);
+                    return false;
+                }
+                log.error("Failed to flush {} buffered orders, retrying in {} ms", orders, backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void deadLetter(List<OrderJournal.Entry> entries) {
+        try {
+            journal.deadLetter(entries);
+        } catch (IOException e) {
+            // Last resort: the log is the only remaining record of these orders
+            log.error("Failed to write {} orders to the dead-letter file: {}", entries.size(),
+                    entries.stream().map(OrderJournal.Entry::format).toList(), e);
+        }
+        deadLetteredOrders.increment(entries.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.firstclub.membership.util;
+
+import com.google.common.util.concurrent.Striped;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-member lock manager backed by a fixed array of striped read/write locks.
+ * Members hashing to different stripes never block each other, and memory stays
+ * bounded by the stripe count regardless of how many members exist.
+ */
+@Component
+public class MemberLockManager {
+
+    private final Striped<ReadWriteLock> locks;
+    private final Counter acquisitions;
+    private final Counter contendedAcquisitions;
+    private final Timer waitTimer;
+
+    public MemberLockManager(@Value("${membership.locks.stripes:1024}") int stripes,
+                             MeterRegistry meterRegistry) {
+        this.locks = Striped.readWriteLock(stripes);
+        this.acquisitions = Counter.builder("membership.member.lock.acquisitions")
+                .description("Total member lock acquisitions")
+                .register(meterRegistry);
+        this.contendedAcquisitions = Counter.builder("membership.member.lock.contended")
+                .description("Member lock acquisitions that had to wait for another holder")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("membership.member.lock.wait")
+                .description("Time spent waiting on contended member locks")
+                .register(meterRegistry);
+        meterRegistry.gauge("membership.member.lock.stripes", locks, Striped::size);
+    }
+
+    /**
+     * Run an action holding the exclusive lock for a member
+     */
+    public <T> T withWriteLock(String userId, Supplier<T> action) {
+        return withLock(locks.get(userId).writeLock(), action);
+    }
+
+    /**
+     * Run an action holding the exclusive lock for a member
+     */
+    public void withWriteLock(String userId, Runnable action) {
+        withWriteLock(userId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run an action holding the shared lock for a member
+     */
+    public <T> T withReadLock(String userId, Supplier<T> action) {
+        return withLock(locks.get(userId).readLock(), action);
+    }
+
+    /**
+     * Number of lock stripes
+     */
+    public int getStripeCount() {
+        return locks.size();
+    }
+
+    private <T> T withLock(Lock lock, Supplier<T> action) {
+        acquire(lock);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(Lock lock) {
+        acquisitions.increment();
+        if (lock.tryLock()) {
+            return;
+        }
+
+        // Only contended acquisitions pay for timing
+        contendedAcquisitions.increment();
+        long start = System.nanoTime();
+        lock.lock();
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,22 +2,45 @@ package com.firstclub.membership.util;
 
 import com.firstclub.membership.dto.response.*;
 import com.firstclub.membership.entity.*;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.service.MemberEligibility;
+import com.firstclub.membership.service.TierCatalog;
+import com.firstclub.membership.service.TierCatalogService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
- * Mapper component for converting entities to DTOs
+ * Mapper component for converting entities to DTOs.
+ * Tier and benefit DTOs of catalog tiers are built once per catalog version and shared by
+ * reference; both DTOs and the benefit lists are immutable.
  */
 @Component
+@RequiredArgsConstructor
 public class MembershipMapper {
 
+    private static final Comparator<Benefit> DISPLAY_ORDER = Comparator
+            .comparing(Benefit::getDisplayOrder, Comparator.nullsLast(Comparator.<Integer>naturalOrder()))
+            .thenComparing(Benefit::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
+    private final TierCatalogService tierCatalogService;
+    private final AtomicReference<TierDtoSnapshot> tierDtos = new AtomicReference<>(TierDtoSnapshot.EMPTY);
+
     public MembershipPlanDto toPlanDto(MembershipPlan plan) {
         if (plan == null) return null;
         
-        // Calculate monthly price for comparison
-        MembershipPlanDto dto = MembershipPlanDto.builder()
+        // Calculate discount percentage (assuming monthly plan price is passed separately)
+        // For demo, we'll set it to 0 for monthly plan
+        BigDecimal discountPercentage = null;
+        if (plan.getDurationInMonths() > 1) {
+            discountPercentage = plan.getDiscountPercentage(plan.getMonthlyPrice().multiply(BigDecimal.valueOf(3)));
+        }
+        
+        return MembershipPlanDto.builder()
                 .id(plan.getId())
                 .planType(plan.getPlanType())
                 .name(plan.getName())
@@ -25,33 +48,29 @@ public class MembershipMapper {
                 .basePrice(plan.getBasePrice())
                 .durationInMonths(plan.getDurationInMonths())
                 .monthlyPrice(plan.getMonthlyPrice())
+                .discountPercentage(discountPercentage)
                 .isAvailable(plan.getIsAvailable())
                 .build();
-        
-        // Calculate discount percentage (assuming monthly plan price is passed separately)
-        // For demo, we'll set it to 0 for monthly plan
-        if (plan.getDurationInMonths() > 1) {
-            dto.setDiscountPercentage(plan.getDiscountPercentage(plan.getMonthlyPrice().multiply(java.math.BigDecimal.valueOf(3))));
-        }
-        
-        return dto;
     }
 
+    /**
+     * Map a tier, reusing the precomputed DTO when the tier matches the current catalog
+     */
     public MembershipTierDto toTierDto(MembershipTier tier) {
         if (tier == null) return null;
         
-        return MembershipTierDto.builder()
-                .id(tier.getId())
-                .tierType(tier.getTierType())
-                .name(tier.getName())
-                .description(tier.getDescription())
-                .level(tier.getLevel())
-                .benefits(tier.getBenefits().stream()
-                        .filter(Benefit::getIsActive)
-                        .map(this::toBenefitDto)
-                        .collect(Collectors.toList()))
-                .isAvailable(tier.getIsAvailable())
-                .build();
+        MembershipTierDto precomputed = precomputedTierDto(tier);
+        return precomputed != null ? precomputed : buildTierDto(tier);
+    }
+
+    /**
+     * Active benefits of a tier ordered by display order, as an unmodifiable list
+     */
+    public List<BenefitDto> toBenefitDtos(MembershipTier tier) {
+        if (tier == null) return null;
+        
+        MembershipTierDto precomputed = precomputedTierDto(tier);
+        return precomputed != null ? precomputed.getBenefits() : buildBenefitDtos(tier);
     }
 
     public BenefitDto toBenefitDto(Benefit benefit) {
@@ -90,14 +109,33 @@ public class MembershipMapper {
     public MembershipStatusDto toMembershipStatusDto(Member member) {
         if (member == null) return null;
         
-        Subscription activeSubscription = member.getActiveSubscription();
+        return toMembershipStatusDto(member, member.getActiveSubscription());
+    }
+
+    /**
+     * Map a member whose active subscription was loaded separately, so its history is not touched
+     */
+    public MembershipStatusDto toMembershipStatusDto(Member member, Subscription activeSubscription) {
+        if (member == null) return null;
+        
+        DailyOrderBuckets recentOrders = member.getRecentOrders();
+        long today = DailyOrderBuckets.currentEpochDay();
+        return toMembershipStatusDto(member, activeSubscription,
+                recentOrders.orderCount(OrderStatistics.ROLLING_MONTH_DAYS, today),
+                recentOrders.orderValueCents(OrderStatistics.ROLLING_MONTH_DAYS, today));
+    }
+
+    /**
+     * Map a member whose active subscription and rolling-month order totals were loaded separately
+     */
+    public MembershipStatusDto toMembershipStatusDto(Member member, Subscription activeSubscription,
+                                                     int monthlyOrderCount, long monthlyOrderValueCents) {
+        if (member == null) return null;
+        
         List<BenefitDto> activeBenefits = null;
         
         if (activeSubscription != null && activeSubscription.getTier() != null) {
-            activeBenefits = activeSubscription.getTier().getBenefits().stream()
-                    .filter(Benefit::getIsActive)
-                    .map(this::toBenefitDto)
-                    .collect(Collectors.toList());
+            activeBenefits = toBenefitDtos(activeSubscription.getTier());
         }
         
         return MembershipStatusDto.builder()
@@ -105,25 +143,106 @@ public class MembershipMapper {
                 .email(member.getEmail())
                 .firstName(member.getFirstName())
                 .lastName(member.getLastName())
-                .hasActiveSubscription(member.hasActiveSubscription())
+                .hasActiveSubscription(activeSubscription != null)
                 .activeSubscription(toSubscriptionDto(activeSubscription))
                 .activeBenefits(activeBenefits)
                 .totalLifetimeValue(member.getTotalLifetimeValue())
-                .orderStatistics(toOrderStatisticsDto(member.getOrderStatistics()))
+                .orderStatistics(toOrderStatisticsDto(member.getOrderStatistics(), monthlyOrderCount, monthlyOrderValueCents))
                 .build();
     }
 
-    public OrderStatisticsDto toOrderStatisticsDto(OrderStatistics stats) {
+    public OrderStatisticsDto toOrderStatisticsDto(OrderStatistics stats, int monthlyOrderCount, long monthlyOrderValueCents) {
         if (stats == null) return null;
         
         return OrderStatisticsDto.builder()
                 .totalOrderCount(stats.getTotalOrderCount())
-                .monthlyOrderCount(stats.getMonthlyOrderCount())
+                .monthlyOrderCount(monthlyOrderCount)
                 .totalOrderValue(stats.getTotalOrderValue())
-                .monthlyOrderValue(stats.getMonthlyOrderValue())
+                .monthlyOrderValue(BigDecimal.valueOf(monthlyOrderValueCents, 2))
                 .averageOrderValue(stats.getAverageOrderValue())
                 .firstOrderDate(stats.getFirstOrderDate())
                 .lastOrderDate(stats.getLastOrderDate())
                 .build();
     }
-} 
\ No newline at end of file
+
+    public MemberEligibilityDto toMemberEligibilityDto(MemberEligibility eligibility) {
+        if (eligibility == null) return null;
+        
+        List<MembershipTierType> tierTypes = eligibility.getEligibleTiers().stream()
+                .map(MembershipTier::getTierType)
+                .collect(Collectors.toList());
+        
+        return MemberEligibilityDto.builder()
+                .userId(eligibility.getMember().getUserId())
+                .cohort(eligibility.getMember().getCohort())
+                .eligibleTiers(tierTypes)
+                .highestTier(tierTypes.isEmpty() ? null : tierTypes.get(tierTypes.size() - 1))
+                .build();
+    }
+
+    /**
+     * Get the shared DTO of a tier if it is the one held by the current catalog (same id and version)
+     */
+    private MembershipTierDto precomputedTierDto(MembershipTier tier) {
+        TierCatalog catalog = tierCatalogService.getCatalog();
+        MembershipTier cached = catalog.getTiersById().get(tier.getId());
+        if (cached == null || (cached != tier && !Objects.equals(cached.getVersion(), tier.getVersion()))) {
+            return null;
+        }
+        
+        TierDtoSnapshot snapshot = tierDtos.get();
+        if (snapshot.version != catalog.getVersion()) {
+            TierDtoSnapshot rebuilt = new TierDtoSnapshot(catalog.getVersion(), buildTierDtos(catalog));
+            // Never replace a newer snapshot with one built from an older catalog
+            if (snapshot.version < rebuilt.version) {
+                tierDtos.compareAndSet(snapshot, rebuilt);
+            }
+            snapshot = rebuilt;
+        }
+        return snapshot.tiersById.get(tier.getId());
+    }
+
+    private Map<Long, MembershipTierDto> buildTierDtos(TierCatalog catalog) {
+        Map<Long, MembershipTierDto> byId = new HashMap<>();
+        for (MembershipTier tier : catalog.getTiers()) {
+            byId.put(tier.getId(), buildTierDto(tier));
+        }
+        return Collections.unmodifiableMap(byId);
+    }
+
+    private MembershipTierDto buildTierDto(MembershipTier tier) {
+        return MembershipTierDto.builder()
+                .id(tier.getId())
+                .tierType(tier.getTierType())
+                .name(tier.getName())
+                .description(tier.getDescription())
+                .level(tier.getLevel())
+                .benefits(buildBenefitDtos(tier))
+                .isAvailable(tier.getIsAvailable())
+                .build();
+    }
+
+    private List<BenefitDto> buildBenefitDtos(MembershipTier tier) {
+        return tier.getBenefits().stream()
+                .filter(Benefit::getIsActive)
+                .sorted(DISPLAY_ORDER)
+                .map(this::toBenefitDto)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Tier DTOs built from one catalog version
+     */
+    private static final class TierDtoSnapshot {
+
+        static final TierDtoSnapshot EMPTY = new TierDtoSnapshot(0, Map.of());
+
+        final long version;
+        final Map<Long, MembershipTierDto> tiersById;
+
+        TierDtoSnapshot(long version, Map<Long, MembershipTierDto> tiersById) {
+            this.version = version;
+            this.tiersById = tiersById;
+        }
+    }
+}
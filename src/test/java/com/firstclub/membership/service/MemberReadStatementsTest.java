@@ -0,0 +1,98 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.dto.response.BenefitDto;
+import com.firstclub.membership.dto.response.MembershipStatusDto;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Status and benefit reads for a member with orders and a subscription history must each run
+ * as a single JDBC statement. The status cache is disabled so every call reaches the database.
+ */
+@SpringBootTest(properties = {
+        "membership.status-cache.maximum-size=0",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MemberReadStatementsTest {
+
+    private static final String USER_ID = "statements-member";
+    private static final int PAST_SUBSCRIPTIONS = 5;
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        createMemberWithHistory();
+    }
+
+    @Test
+    void memberStatusIsOneStatement() {
+        statistics.clear();
+
+        MembershipStatusDto status = membershipService.getMemberStatus(USER_ID);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(status.getHasActiveSubscription()).isTrue();
+        assertThat(status.getActiveBenefits()).isNotEmpty();
+        assertThat(status.getOrderStatistics().getTotalOrderCount()).isEqualTo(6);
+        assertThat(status.getOrderStatistics().getMonthlyOrderCount()).isEqualTo(6);
+    }
+
+    @Test
+    void memberBenefitsIsOneStatement() {
+        statistics.clear();
+
+        List<BenefitDto> benefits = membershipService.getMemberBenefits(USER_ID);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(benefits).isNotEmpty();
+    }
+
+    private void createMemberWithHistory() {
+        membershipService.createMember(CreateMemberRequest.builder()
+                .userId(USER_ID)
+                .email(USER_ID + "@example.com")
+                .firstName("Statements")
+                .lastName("Member")
+                .cohort("premium")
+                .build());
+        for (int i = 0; i < 6; i++) {
+            membershipService.recordOrder(USER_ID, new BigDecimal("120.00"));
+        }
+        SubscribeRequest request = SubscribeRequest.builder()
+                .userId(USER_ID)
+                .planType(MembershipPlanType.MONTHLY)
+                .tierType(MembershipTierType.GOLD)
+                .autoRenew(false)
+                .build();
+        for (int i = 0; i < PAST_SUBSCRIPTIONS; i++) {
+            membershipService.subscribe(request);
+            membershipService.cancelSubscription(USER_ID, "renewal history");
+        }
+        membershipService.subscribe(request);
+    }
+}
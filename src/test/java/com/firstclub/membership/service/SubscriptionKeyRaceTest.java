@@ -0,0 +1,123 @@
+package com.firstclub.membership.service;
+
+import com.firstclub.membership.dto.request.CreateMemberRequest;
+import com.firstclub.membership.dto.request.SubscribeRequest;
+import com.firstclub.membership.enums.MembershipPlanType;
+import com.firstclub.membership.enums.MembershipTierType;
+import com.firstclub.membership.exception.ErrorCode;
+import com.firstclub.membership.exception.RejectedException;
+import com.firstclub.membership.util.MemberLockManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent subscribes for one member with the in-process member lock disabled, as if they
+ * arrived at different application instances. The unique active-member key and the write retry
+ * alone must let exactly one through and reject the rest with SUBSCRIPTION_ALREADY_ACTIVE.
+ */
+@SpringBootTest(properties = "membership.status-cache.maximum-size=0")
+class SubscriptionKeyRaceTest {
+
+    private static final int MEMBERS = 5;
+    private static final int REQUESTS_PER_MEMBER = 8;
+
+    @TestConfiguration
+    static class UnlockedMembers {
+        /**
+         * Runs every member action without a lock
+         */
+        @Bean
+        @Primary
+        MemberLockManager noOpMemberLockManager(MeterRegistry meterRegistry) {
+            return new MemberLockManager(1, meterRegistry) {
+                @Override
+                public <T> T withWriteLock(String userId, Supplier<T> action) {
+                    return action.get();
+                }
+
+                @Override
+                public <T> T withReadLock(String userId, Supplier<T> action) {
+                    return action.get();
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void uniqueKeyAndRetryAdmitOneSubscribePerMember() throws Exception {
+        double retriesBefore = meterRegistry.counter("membership.writes.retries").count();
+
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS_PER_MEMBER);
+        try {
+            for (int m = 0; m < MEMBERS; m++) {
+                String userId = "key-race-" + m;
+                membershipService.createMember(CreateMemberRequest.builder()
+                        .userId(userId)
+                        .email(userId + "@example.com")
+                        .firstName("Key")
+                        .lastName("Race")
+                        .build());
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<ErrorCode>> outcomes = new ArrayList<>();
+                for (int i = 0; i < REQUESTS_PER_MEMBER; i++) {
+                    outcomes.add(pool.submit(() -> {
+                        start.await();
+                        try {
+                            membershipService.subscribe(SubscribeRequest.builder()
+                                    .userId(userId)
+                                    .planType(MembershipPlanType.MONTHLY)
+                                    .tierType(MembershipTierType.SILVER)
+                                    .autoRenew(false)
+                                    .build());
+                            return null;
+                        } catch (RejectedException e) {
+                            return e.getCode();
+                        }
+                    }));
+                }
+                start.countDown();
+
+                int succeeded = 0;
+                for (Future<ErrorCode> outcome : outcomes) {
+                    ErrorCode code = outcome.get(30, TimeUnit.SECONDS);
+                    if (code == null) {
+                        succeeded++;
+                    } else {
+                        assertThat(code).as("rejection for %s", userId).isEqualTo(ErrorCode.SUBSCRIPTION_ALREADY_ACTIVE);
+                        assertThat(code.getStatus().value()).isEqualTo(409);
+                    }
+                }
+                assertThat(succeeded).as("successful subscribes for %s", userId).isEqualTo(1);
+                assertThat(membershipService.getMemberStatus(userId).getHasActiveSubscription()).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Without the lock the losers must have hit the key and gone through the retry
+        assertThat(meterRegistry.counter("membership.writes.retries").count()).isGreaterThan(retriesBefore);
+    }
+}
@@ -0,0 +1,116 @@
+package com.firstclub.membership.service;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Concurrent subscribe requests for one member: exactly one creates the subscription and every
+ * other request is rejected with 409 SUBSCRIPTION_ALREADY_ACTIVE.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SubscriptionRaceTest {
+
+    private static final int MEMBERS = 5;
+    private static final int REQUESTS_PER_MEMBER = 16;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.basePath = "/api/membership";
+    }
+
+    @Test
+    void onlyOneConcurrentSubscribePerMemberSucceeds() throws Exception {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            String userId = "race-" + i;
+            createMember(userId);
+            userIds.add(userId);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(MEMBERS * REQUESTS_PER_MEMBER);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, List<Future<Response>>> responses = new HashMap<>();
+        try {
+            for (String userId : userIds) {
+                List<Future<Response>> futures = new ArrayList<>();
+                for (int i = 0; i < REQUESTS_PER_MEMBER; i++) {
+                    futures.add(pool.submit(() -> {
+                        start.await();
+                        return subscribe(userId);
+                    }));
+                }
+                responses.put(userId, futures);
+            }
+            start.countDown();
+
+            for (String userId : userIds) {
+                int succeeded = 0;
+                int conflicts = 0;
+                for (Future<Response> future : responses.get(userId)) {
+                    Response response = future.get(30, TimeUnit.SECONDS);
+                    if (response.statusCode() == 200) {
+                        succeeded++;
+                    } else {
+                        assertThat(response.statusCode()).as("status for %s", userId).isEqualTo(409);
+                        assertThat(response.jsonPath().getString("code")).isEqualTo("SUBSCRIPTION_ALREADY_ACTIVE");
+                        conflicts++;
+                    }
+                }
+                assertThat(succeeded).as("successful subscribes for %s", userId).isEqualTo(1);
+                assertThat(conflicts).isEqualTo(REQUESTS_PER_MEMBER - 1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (String userId : userIds) {
+            given().get("/member/status/{userId}", userId)
+                    .then()
+                    .statusCode(200)
+                    .body("hasActiveSubscription", equalTo(true));
+        }
+    }
+
+    private static void createMember(String userId) {
+        given().contentType(ContentType.JSON)
+                .body(Map.of("userId", userId,
+                        "email", userId + "@example.com",
+                        "firstName", "Race",
+                        "lastName", "Member"))
+                .post("/members")
+                .then()
+                .statusCode(201);
+    }
+
+    private static Response subscribe(String userId) {
+        return given().contentType(ContentType.JSON)
+                .body(Map.of("userId", userId,
+                        "planType", "MONTHLY",
+                        "tierType", "SILVER",
+                        "autoRenew", false))
+                .post("/subscribe");
+    }
+}
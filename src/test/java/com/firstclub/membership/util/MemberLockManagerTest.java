@@ -0,0 +1,114 @@
+package com.firstclub.membership.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Real threads against the striped member locks: writes for different members must run at the
+ * same time, writes for one member must run one at a time, and reads for one member may share.
+ */
+class MemberLockManagerTest {
+
+    private static final int THREADS = 8;
+
+    private MeterRegistry meterRegistry;
+    private MemberLockManager lockManager;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new MemberLockManager(1024, meterRegistry);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writesForDifferentMembersDoNotSerialize() throws Exception {
+        // Each holder waits inside its lock for the other; this only completes if both hold their locks at once
+        CyclicBarrier bothInside = new CyclicBarrier(2);
+        Future<Boolean> first = executor.submit(() -> lockManager.withWriteLock("member-1", () -> await(bothInside)));
+        Future<Boolean> second = executor.submit(() -> lockManager.withWriteLock("member-2", () -> await(bothInside)));
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("membership.member.lock.contended").count()).isZero();
+    }
+
+    @Test
+    void writesForOneMemberSerialize() throws Exception {
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                lockManager.withWriteLock("member-1", () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    sleep(20);
+                    inside.decrementAndGet();
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(maxInside.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("membership.member.lock.acquisitions").count()).isEqualTo(THREADS);
+        assertThat(meterRegistry.counter("membership.member.lock.contended").count()).isPositive();
+    }
+
+    @Test
+    void readsForOneMemberShareTheLock() throws Exception {
+        CyclicBarrier allInside = new CyclicBarrier(THREADS);
+        List<Future<Boolean>> readers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            readers.add(executor.submit(() -> lockManager.withReadLock("member-1", () -> await(allInside))));
+        }
+
+        for (Future<Boolean> reader : readers) {
+            assertThat(reader.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static boolean await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}